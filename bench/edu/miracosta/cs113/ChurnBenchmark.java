@@ -0,0 +1,57 @@
+package edu.miracosta.cs113;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * ChurnBenchmark.java : A queue-style workload which appends an element at the tail and removes one from the head of
+ * a list holding a steady number of elements. DoubleLinkedList allocates a Node for every add, while
+ * ArrayDoubleLinkedList reuses freed slots, so its steady state should allocate nothing. Run it with the gc profiler
+ * and compare gc.alloc.rate.norm, the bytes allocated per operation.
+ *
+ * Run with: gradle jmh -Pjmh='ChurnBenchmark -prof gc'
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ChurnBenchmark {
+    @Param({"1024"})
+    private int size;
+
+    @Param({"DoubleLinkedList", "ArrayDoubleLinkedList", "LinkedList"})
+    private String implementation;
+
+    private List<Integer> list;
+    private Integer value;          // boxed once, so only the list's own allocation is measured
+
+    /**
+     * Fills the list under test to its steady size
+     */
+    @Setup
+    public void setUp() {
+        switch (implementation) {
+            case "DoubleLinkedList":
+                list = new DoubleLinkedList<Integer>();
+                break;
+            case "ArrayDoubleLinkedList":
+                list = new ArrayDoubleLinkedList<Integer>();
+                break;
+            default:
+                list = new LinkedList<Integer>();
+        }
+        value = 1000000;
+        for (int i = 0; i < size; i++) {
+            list.add(value);
+        }
+    }
+
+    @Benchmark
+    public Integer addRemove() {
+        list.add(value);
+        return list.remove(0);
+    }
+}
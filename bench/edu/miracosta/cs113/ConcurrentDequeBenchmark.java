@@ -0,0 +1,67 @@
+package edu.miracosta.cs113;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * ConcurrentDequeBenchmark.java : Measures the throughput of a deque shared by every benchmark thread, each of which
+ * repeatedly adds an element at the tail and removes one from the head. ConcurrentDoubleLinkedList is compared against
+ * a DoubleLinkedList guarded by a single lock, the arrangement it replaces, with java.util.concurrent's
+ * ConcurrentLinkedDeque as the reference point. The thread count is set on the command line, so the same benchmark
+ * covers 1 to N cores.
+ *
+ * Run with: gradle jmh -Pjmh='ConcurrentDequeBenchmark -t 4'
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentDequeBenchmark {
+    @Param({"1024"})
+    private int size;
+
+    private ConcurrentDoubleLinkedList<Integer> concurrentList;
+    private DoubleLinkedList<Integer> lockedList;
+    private ConcurrentLinkedDeque<Integer> concurrentDeque;
+    private Integer value;          // boxed once, so the threads share no allocation besides the deques' own
+
+    /**
+     * Fills each deque to its starting size, so removals never find it empty
+     */
+    @Setup
+    public void setUp() {
+        concurrentList = new ConcurrentDoubleLinkedList<Integer>();
+        lockedList = new DoubleLinkedList<Integer>();
+        concurrentDeque = new ConcurrentLinkedDeque<Integer>();
+        value = 1000000;
+        for (int i = 0; i < size; i++) {
+            concurrentList.addLast(value);
+            lockedList.add(value);
+            concurrentDeque.addLast(value);
+        }
+    }
+
+    @Benchmark
+    public Integer concurrentDoubleLinkedList() {
+        concurrentList.addLast(value);
+        return concurrentList.pollFirst();
+    }
+
+    @Benchmark
+    public Integer synchronizedDoubleLinkedList() {
+        synchronized (lockedList) {
+            lockedList.add(value);
+            return lockedList.remove(0);
+        }
+    }
+
+    @Benchmark
+    public Integer concurrentLinkedDeque() {
+        concurrentDeque.addLast(value);
+        return concurrentDeque.pollFirst();
+    }
+}
@@ -0,0 +1,71 @@
+package edu.miracosta.cs113;
+import java.lang.ref.Reference;
+import java.util.*;
+
+/**
+ * Footprint.java : Prints the heap each list implementation retains per element, measured as the growth in used heap
+ * after a full collection when a list of NUM_ELEMENTS shared, already boxed Integers is built. The Integers themselves
+ * exist before the measurement starts, so only the list's own nodes, arrays and headers are counted.
+ *
+ * Run with: gradle footprint
+ */
+public class Footprint {
+    /** Number of elements added to each list */
+    private static final int NUM_ELEMENTS = 1_000_000;
+
+    /**
+     * Builds each list in turn and prints its retained bytes per element
+     * @param args  unused
+     */
+    public static void main(String[] args) {
+        Integer[] values = new Integer[NUM_ELEMENTS];
+        for (int i = 0; i < NUM_ELEMENTS; i++) {
+            values[i] = i;
+        }
+        for (int round = 0; round < 2; round++) {     // the first round warms up class loading and the JIT
+            boolean print = (round == 1);
+            report("java.util.ArrayList", new ArrayList<Integer>(), values, print);
+            report("java.util.LinkedList", new LinkedList<Integer>(), values, print);
+            report("DoubleLinkedList", new DoubleLinkedList<Integer>(), values, print);
+            report("UnrolledDoubleLinkedList", new UnrolledDoubleLinkedList<Integer>(), values, print);
+            report("ArrayDoubleLinkedList", new ArrayDoubleLinkedList<Integer>(), values, print);
+        }
+    }
+
+    /**
+     * Helper method which fills a list and prints the heap it retains per element
+     * @param name      the name printed for the list
+     * @param list      an empty list to fill
+     * @param values    the elements to add
+     * @param print     false to build the list without printing, while warming up
+     */
+    private static void report(String name, List<Integer> list, Integer[] values, boolean print) {
+        long before = usedHeap();
+        for (Integer value : values) {
+            list.add(value);
+        }
+        long after = usedHeap();
+        if (print) {
+            System.out.printf("%-26s %6.1f bytes per element%n", name, (after - before) / (double) values.length);
+        }
+        Reference.reachabilityFence(list);
+    }
+
+    /**
+     * Helper method which returns the used heap once repeated full collections have stopped freeing memory
+     * @return      the bytes of heap in use
+     */
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        long used = Long.MAX_VALUE;
+        for (int i = 0; i < 10; i++) {
+            System.gc();
+            long now = runtime.totalMemory() - runtime.freeMemory();
+            if (now >= used) {
+                break;
+            }
+            used = now;
+        }
+        return used;
+    }
+}
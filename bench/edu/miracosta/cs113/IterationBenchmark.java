@@ -0,0 +1,145 @@
+package edu.miracosta.cs113;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * IterationBenchmark.java : Measures the cost of the fail-fast checks in DoubleLinkedList's iterator, which compares
+ * modCount on every step. The baseline is an iterator which walks the same Nodes with the same bookkeeping but no
+ * check, reading the list's private fields through VarHandles, so the difference between the two is the cost of the
+ * check alone. The list's spliterator, whose forEachRemaining compares modCount once after the whole traversal, and
+ * java.util.LinkedList, whose iterator checks every step as well, are further reference points. The list is small
+ * enough to stay in cache, so the per-step check is not hidden behind memory latency.
+ *
+ * Run with: gradle jmh -Pjmh=IterationBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IterationBenchmark {
+    private static final VarHandle HEAD;
+    private static final VarHandle SIZE;
+    private static final VarHandle NEXT;
+    private static final VarHandle DATA;
+
+    static {
+        try {
+            Class<?> node = Class.forName(DoubleLinkedList.class.getName() + "$Node");
+            MethodHandles.Lookup listLookup = MethodHandles.privateLookupIn(DoubleLinkedList.class,
+                    MethodHandles.lookup());
+            HEAD = listLookup.findVarHandle(DoubleLinkedList.class, "head", node);
+            SIZE = listLookup.findVarHandle(DoubleLinkedList.class, "size", int.class);
+            MethodHandles.Lookup nodeLookup = MethodHandles.privateLookupIn(node, MethodHandles.lookup());
+            NEXT = nodeLookup.findVarHandle(node, "next", node);
+            DATA = nodeLookup.findVarHandle(node, "data", Object.class);
+        } catch (ReflectiveOperationException roe) {
+            throw new ExceptionInInitializerError(roe);
+        }
+    }
+
+    @Param({"10000"})
+    private int size;
+
+    private DoubleLinkedList<Integer> list;
+    private LinkedList<Integer> linkedList;
+
+    /**
+     * Builds the lists under test
+     */
+    @Setup
+    public void setUp() {
+        list = new DoubleLinkedList<Integer>();
+        linkedList = new LinkedList<Integer>();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+            linkedList.add(i);
+        }
+    }
+
+    /**
+     * An inner class for creating an Iterator which steps through the Nodes of a DoubleLinkedList exactly as its own
+     * iterator does, but without comparing modCount
+     */
+    private static class UncheckedIterator implements Iterator<Integer> {
+        // data fields
+        private final DoubleLinkedList<Integer> list;
+        private Object nextItem;
+        private Object lastItemReturned;
+        private int index;
+
+        /**
+         * Constructor which sets up an iterator at the head of a list
+         * @param list  the list to iterate over
+         */
+        private UncheckedIterator(DoubleLinkedList<Integer> list) {
+            this.list = list;
+            nextItem = HEAD.get(list);
+            lastItemReturned = null;
+            index = 0;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return (index < (int) SIZE.get(list));
+        }
+
+        @Override
+        public Integer next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No next element");
+            }
+            lastItemReturned = nextItem;
+            nextItem = NEXT.get(nextItem);
+            index++;
+            return (Integer) DATA.get(lastItemReturned);
+        }
+    }
+
+    /**
+     * Helper method which sums the elements an Iterator returns. Each benchmark passes a single Iterator class, so
+     * once inlined every call site sees only one type.
+     * @param iterator  the Iterator to drain
+     * @return          the sum of the elements
+     */
+    private static long sum(Iterator<Integer> iterator) {
+        long sum = 0;
+        while (iterator.hasNext()) {
+            sum += iterator.next();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long checkedIterator() {
+        return sum(list.iterator());
+    }
+
+    @Benchmark
+    public long uncheckedIterator() {
+        return sum(new UncheckedIterator(list));
+    }
+
+    @Benchmark
+    public long spliteratorForEach() {
+        final long[] sum = new long[1];
+        list.spliterator().forEachRemaining(new Consumer<Integer>() {
+            @Override
+            public void accept(Integer value) {
+                sum[0] += value;
+            }
+        });
+        return sum[0];
+    }
+
+    @Benchmark
+    public long linkedListIterator() {
+        return sum(linkedList.iterator());
+    }
+}
@@ -0,0 +1,111 @@
+package edu.miracosta.cs113;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * PipelineBenchmark.java : Measures the time to push a batch of items through an AsyncPipeline whose task blocks for
+ * 100µs, as a call to another service would, on virtual threads and on platform threads. A fixed thread pool
+ * ExecutorService running the same tasks is the platform-thread reference point. Each invocation creates and shuts
+ * down its own pipeline or pool, so the cost of starting the threads is included for every variant.
+ *
+ * Run with: gradle jmh -Pjmh=PipelineBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PipelineBenchmark {
+    /** Time each task blocks for, in nanoseconds */
+    private static final long BLOCK_NANOS = 100_000;
+
+    @Param({"10000"})
+    private int items;
+
+    @Param({"64", "1024"})
+    private int parallelism;
+
+    private Function<Integer, Integer> task;
+
+    /**
+     * Creates the blocking task shared by every variant
+     */
+    @Setup
+    public void setUp() {
+        task = new Function<Integer, Integer>() {
+            @Override
+            public Integer apply(Integer item) {
+                LockSupport.parkNanos(BLOCK_NANOS);
+                return item;
+            }
+        };
+    }
+
+    /**
+     * Helper method which runs every item through an AsyncPipeline on threads from a specified factory
+     * @param factory   creates the consumer threads, null for virtual threads
+     * @return          the number of results delivered
+     * @throws InterruptedException     if interrupted while waiting for the pipeline
+     */
+    private long runPipeline(ThreadFactory factory) throws InterruptedException {
+        final long[] delivered = new long[1];
+        Consumer<Integer> sink = new Consumer<Integer>() {
+            @Override
+            public void accept(Integer result) {
+                delivered[0]++;
+            }
+        };
+        AsyncPipeline<Integer, Integer> pipeline = (factory == null)
+                ? new AsyncPipeline<Integer, Integer>(task, sink, parallelism, parallelism * 2, false)
+                : new AsyncPipeline<Integer, Integer>(task, sink, parallelism, parallelism * 2, false, factory);
+        try {
+            for (int i = 0; i < items; i++) {
+                pipeline.submit(i);
+            }
+        } finally {
+            pipeline.close();
+        }
+        return delivered[0];
+    }
+
+    @Benchmark
+    public long pipelineVirtualThreads() throws InterruptedException {
+        return runPipeline(null);
+    }
+
+    @Benchmark
+    public long pipelinePlatformThreads() throws InterruptedException {
+        return runPipeline(Executors.defaultThreadFactory());
+    }
+
+    @Benchmark
+    public long fixedThreadPool() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            List<Future<Integer>> futures = new ArrayList<Future<Integer>>(items);
+            for (int i = 0; i < items; i++) {
+                final Integer item = i;
+                futures.add(executor.submit(new Callable<Integer>() {
+                    @Override
+                    public Integer call() {
+                        return task.apply(item);
+                    }
+                }));
+            }
+            long delivered = 0;
+            for (Future<Integer> future : futures) {
+                future.get();
+                delivered++;
+            }
+            return delivered;
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package edu.miracosta.cs113;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * PositionalAccessBenchmark.java : Measures the worst case of get(int) on a DoubleLinkedList of 1M elements. get
+ * starts from whichever end, or the cached cursor, is closest, so its worst case is the middle of the list. The
+ * forward walks reproduce the former seek, which always started from the head and was worst at the tail.
+ *
+ * Run with: gradle jmh -Pjmh=PositionalAccessBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PositionalAccessBenchmark {
+    @Param({"1000000"})
+    private int size;
+
+    private DoubleLinkedList<Integer> list;
+
+    /**
+     * Builds the list under test
+     */
+    @Setup
+    public void setUp() {
+        list = new DoubleLinkedList<Integer>();
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+        }
+    }
+
+    /**
+     * Helper method which walks forward from the head, as the seek did before it could start from the tail
+     * @param i     the index to walk to
+     * @return      the element at index i
+     */
+    private Integer walkFromHead(int i) {
+        Iterator<Integer> iterator = list.iterator();
+        for (int k = 0; k < i; k++) {
+            iterator.next();
+        }
+        return iterator.next();
+    }
+
+    @Benchmark
+    public Integer getMiddle() {
+        list.get(0);    // moves the cursor to the head, so the middle is the same distance from every starting point
+        return list.get(size / 2);
+    }
+
+    @Benchmark
+    public Integer getLast() {
+        return list.get(size - 1);
+    }
+
+    @Benchmark
+    public Integer forwardWalkToMiddle() {
+        return walkFromHead(size / 2);
+    }
+
+    @Benchmark
+    public Integer forwardWalkToLast() {
+        return walkFromHead(size - 1);
+    }
+}
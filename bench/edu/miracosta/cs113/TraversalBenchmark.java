@@ -0,0 +1,73 @@
+package edu.miracosta.cs113;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * TraversalBenchmark.java : Compares the time to iterate over a large list with one element per node, as in
+ * DoubleLinkedList and java.util.LinkedList, against UnrolledDoubleLinkedList, which follows one reference per block
+ * of elements, with java.util.ArrayList as the contiguous reference point. Heap per element is measured separately by
+ * Footprint.
+ *
+ * Run with: gradle jmh -Pjmh=TraversalBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TraversalBenchmark {
+    @Param({"1000000"})
+    private int size;
+
+    @Param({"DoubleLinkedList", "UnrolledDoubleLinkedList", "LinkedList", "ArrayList"})
+    private String implementation;
+
+    @Param({"sequential", "interleaved"})
+    private String layout;
+
+    private List<Integer> list;
+    private List<Object> padding;   // kept alive between the nodes of an interleaved list
+
+    /**
+     * Builds the list under test. In the sequential layout the nodes are allocated one after another, the best case
+     * for the lists with a node per element since consecutive nodes sit next to each other in the heap. In the
+     * interleaved layout a live 128 byte array is allocated after each element, so consecutive nodes are spread out
+     * as they are in a long-lived list built up alongside other work.
+     */
+    @Setup
+    public void setUp() {
+        switch (implementation) {
+            case "DoubleLinkedList":
+                list = new DoubleLinkedList<Integer>();
+                break;
+            case "UnrolledDoubleLinkedList":
+                list = new UnrolledDoubleLinkedList<Integer>();
+                break;
+            case "LinkedList":
+                list = new LinkedList<Integer>();
+                break;
+            default:
+                list = new ArrayList<Integer>();
+        }
+        padding = new ArrayList<Object>();
+        boolean interleaved = layout.equals("interleaved");
+        for (int i = 0; i < size; i++) {
+            list.add(i);
+            if (interleaved) {
+                padding.add(new byte[128]);
+            }
+        }
+    }
+
+    @Benchmark
+    public long iterate() {
+        long sum = 0;
+        for (Integer value : list) {
+            sum += value;
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,336 @@
+package edu.miracosta.cs113;
+import java.util.*;
+
+/**
+ * ArrayDoubleLinkedList.java : A double linked list whose nodes are slots in parallel arrays of data and prev/next
+ * slot indices rather than Node objects. Slots freed by removal are kept on a free chain and reused, so once the
+ * arrays have grown to the working size, adding and removing elements allocates nothing.
+ *
+ * @param <E>   generic type of the data to be stored
+ * @see DoubleLinkedList
+ */
+public class ArrayDoubleLinkedList<E> extends AbstractList<E> implements List<E> {
+    private static final int NIL = -1;              // slot index standing in for a null reference
+    private static final int DEFAULT_CAPACITY = 8;
+
+    // data fields
+    private Object[] data;
+    private int[] next;
+    private int[] prev;
+    private int head;
+    private int tail;
+    private int size;
+    private int freeHead;       // first slot of the chain of recycled slots, linked through next
+    private int used;           // number of slots ever handed out, slots at or above this have never been used
+
+    /**
+     *  Default constructor that creates an empty ArrayDoubleLinkedList
+     */
+    public ArrayDoubleLinkedList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor that creates an empty ArrayDoubleLinkedList with room for a specified number of elements before its
+     * arrays need to grow
+     * @param capacity  the initial number of slots
+     */
+    public ArrayDoubleLinkedList(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Invalid capacity " + capacity);
+        }
+        data = new Object[capacity];
+        next = new int[capacity];
+        prev = new int[capacity];
+        head = NIL;
+        tail = NIL;
+        size = 0;
+        freeHead = NIL;
+        used = 0;
+    }
+
+    /**
+     * An inner class for creating a ListIterator which can traverse through the slots in ArrayDoubleLinkedList
+     */
+    private class ArrayListIterator implements ListIterator<E> {
+        // data fields
+        private int nextItem;
+        private int lastItemReturned;
+        private int index;
+        private int expectedModCount;
+
+        /**
+         * Constructor which sets up a list iterator at a specified position
+         * @param i     the index position that the iterator will begin at
+         */
+        public ArrayListIterator(int i) {
+            if (i < 0 || i > size) {
+                throw new IndexOutOfBoundsException("Invalid index " + i);
+            }
+            lastItemReturned = NIL;
+            index = i;
+            nextItem = (i == size) ? NIL : node(i);
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return (index < size);
+        }
+
+        @Override
+        public E next() {
+            checkForComodification();
+            if(!hasNext()) {
+                throw new NoSuchElementException("No next element");
+            }
+            lastItemReturned = nextItem;
+            nextItem = next[nextItem];
+            index++;
+            return elementAt(lastItemReturned);
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return (index > 0);
+        }
+
+        @Override
+        public E previous() {
+            checkForComodification();
+            if(!hasPrevious()) {
+                throw new NoSuchElementException("No previous element");
+            }
+            nextItem = (nextItem == NIL) ? tail : prev[nextItem];
+            lastItemReturned = nextItem;
+            index--;
+            return elementAt(lastItemReturned);
+        }
+
+        @Override
+        public int nextIndex() {
+            return index;
+        }
+
+        @Override
+        public int previousIndex() {
+            return index - 1;
+        }
+
+        @Override
+        public void remove() {
+            if(lastItemReturned == NIL) {
+                throw new IllegalStateException("No last element returned");
+            }
+            checkForComodification();
+            if (nextItem == lastItemReturned) {     // last move was previous()
+                nextItem = next[lastItemReturned];
+            } else {
+                index--;
+            }
+            unlink(lastItemReturned);
+            lastItemReturned = NIL;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(E o) {
+            if(lastItemReturned == NIL) {
+                throw new IllegalStateException("No last element returned");
+            }
+            checkForComodification();
+            data[lastItemReturned] = o;
+        }
+
+        @Override
+        public void add(E o) {
+            checkForComodification();
+            linkBefore(nextItem, o);
+            index++;
+            lastItemReturned = NIL;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Helper method which throws if the list was structurally modified other than through this iterator
+         */
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Helper method which returns the element stored in a slot
+     * @param slot  the slot holding the element
+     * @return      the element in that slot
+     */
+    @SuppressWarnings("unchecked")
+    private E elementAt(int slot) {
+        return (E) data[slot];
+    }
+
+    /**
+     * Helper method which finds the slot at a specified position, walking from whichever end of the list is closer
+     * @param i     the index of the slot to find, must be in the range [0, size)
+     * @return      the slot at position i
+     */
+    private int node(int i) {
+        int slot;
+        if (i < (size >> 1)) {
+            slot = head;
+            for (int k = 0; k < i; k++) {
+                slot = next[slot];
+            }
+        } else {
+            slot = tail;
+            for (int k = size - 1; k > i; k--) {
+                slot = prev[slot];
+            }
+        }
+        return slot;
+    }
+
+    /**
+     * Helper method which takes a slot from the free chain, or a never used slot if the free chain is empty, growing
+     * the arrays when every slot is in use
+     * @return      the slot now reserved for a new element
+     */
+    private int allocate() {
+        if (freeHead != NIL) {
+            int slot = freeHead;
+            freeHead = next[slot];
+            return slot;
+        }
+        if (used == data.length) {
+            int capacity = Math.max(DEFAULT_CAPACITY, data.length << 1);
+            data = Arrays.copyOf(data, capacity);
+            next = Arrays.copyOf(next, capacity);
+            prev = Arrays.copyOf(prev, capacity);
+        }
+        return used++;
+    }
+
+    /**
+     * Helper method which links a new element into the list before a specified slot
+     * @param successor     the slot the element is inserted before, NIL to append to the end of the list
+     * @param o             the element to be inserted
+     */
+    private void linkBefore(int successor, E o) {
+        int slot = allocate();
+        int predecessor = (successor == NIL) ? tail : prev[successor];
+        data[slot] = o;
+        prev[slot] = predecessor;
+        next[slot] = successor;
+        if (predecessor == NIL) {
+            head = slot;
+        } else {
+            next[predecessor] = slot;
+        }
+        if (successor == NIL) {
+            tail = slot;
+        } else {
+            prev[successor] = slot;
+        }
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Helper method which unlinks a slot from the list and returns it to the free chain
+     * @param slot  the slot to be removed
+     * @return      the element that was stored in the slot
+     */
+    private E unlink(int slot) {
+        E obj = elementAt(slot);
+        if (prev[slot] == NIL) {
+            head = next[slot];
+        } else {
+            next[prev[slot]] = next[slot];
+        }
+        if (next[slot] == NIL) {
+            tail = prev[slot];
+        } else {
+            prev[next[slot]] = prev[slot];
+        }
+        data[slot] = null;      // let the element be collected while the slot waits for reuse
+        next[slot] = freeHead;
+        freeHead = slot;
+        size--;
+        modCount++;
+        return obj;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public E get(int i) {
+        if(i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return elementAt(node(i));
+    }
+
+    @Override
+    public E set(int i, E o) {
+        if(i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        int slot = node(i);
+        E obj = elementAt(slot);
+        data[slot] = o;
+        return obj;
+    }
+
+    @Override
+    public boolean add(E o) {
+        linkBefore(NIL, o);
+        return true;
+    }
+
+    @Override
+    public void add(int i, E o) {
+        if (i < 0 || i > size) {
+            throw new IndexOutOfBoundsException("Invalid index " + i);
+        }
+        linkBefore((i == size) ? NIL : node(i), o);
+    }
+
+    @Override
+    public E remove(int i) {
+        if(i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return unlink(node(i));
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(data, 0, used, null);
+        head = NIL;
+        tail = NIL;
+        size = 0;
+        freeHead = NIL;
+        used = 0;
+        modCount++;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new ArrayListIterator(0);
+    }
+
+    @Override
+    public ListIterator<E> listIterator() {
+        return new ArrayListIterator(0);
+    }
+
+    @Override
+    public ListIterator<E> listIterator(int i) {
+        return new ArrayListIterator(i);
+    }
+}
@@ -0,0 +1,252 @@
+package edu.miracosta.cs113;
+import java.util.*;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * AsyncPipeline.java : A pipeline which applies a task to submitted items on a pool of consumer threads, virtual
+ * threads unless another ThreadFactory is given, and hands each result to a sink. Items wait in a
+ * BlockingDoubleLinkedQueue for the next free consumer. A submitter blocks once capacity items are waiting, running or
+ * waiting to be delivered, so a fast producer cannot run ahead of slow consumers.
+ *
+ * Results are delivered one at a time, so the sink need not be thread-safe, either in completion order or, for an
+ * ordered pipeline, in submission order, in which case results that finish early wait for the ones before them. Locks
+ * from java.util.concurrent are used rather than synchronized so that blocked virtual threads release their carrier.
+ *
+ * @param <T>   generic type of the submitted items
+ * @param <R>   generic type of the results
+ * @see BlockingDoubleLinkedQueue
+ */
+@SuppressWarnings("try")    // close() must wait for the consumers, so it can be interrupted like the other blocking methods
+public class AsyncPipeline<T, R> implements AutoCloseable {
+    private static final Object NULL_RESULT = new Object();     // stands for a task which returned null
+    private static final Object NO_RESULT = new Object();       // stands for a task which threw
+
+    // data fields
+    private final Function<? super T, ? extends R> task;
+    private final Consumer<? super R> sink;
+    private final boolean ordered;
+    private final BlockingDoubleLinkedQueue<Job<T>> queue;
+    private final Semaphore inFlight;           // one permit per item submitted but not yet delivered
+    private final List<Thread> workers;
+    private final ReentrantLock submitLock;     // keeps sequence numbers in queue order
+    private final ReentrantLock sinkLock;
+    private final Map<Long, Object> completed;  // results waiting for earlier ones, ordered pipelines only
+    private final AtomicReference<Throwable> failure;
+    private long nextSequence;                  // guarded by submitLock
+    private long nextDelivery;                  // guarded by sinkLock
+    private volatile boolean closed;
+
+    /**
+     * Constructor that creates an AsyncPipeline running its consumers on virtual threads
+     * @param task          applied to each submitted item
+     * @param sink          receives each result
+     * @param parallelism   the number of consumer threads, must be at least 1
+     * @param capacity      the number of items which may be in the pipeline before submit blocks, must be at least 1
+     * @param ordered       true to deliver results in submission order, false for completion order
+     */
+    public AsyncPipeline(Function<? super T, ? extends R> task, Consumer<? super R> sink, int parallelism,
+                         int capacity, boolean ordered) {
+        this(task, sink, parallelism, capacity, ordered, Thread.ofVirtual().name("pipeline-consumer-", 0).factory());
+    }
+
+    /**
+     * Constructor that creates an AsyncPipeline running its consumers on threads from a specified factory
+     * @param task          applied to each submitted item
+     * @param sink          receives each result
+     * @param parallelism   the number of consumer threads, must be at least 1
+     * @param capacity      the number of items which may be in the pipeline before submit blocks, must be at least 1
+     * @param ordered       true to deliver results in submission order, false for completion order
+     * @param factory       creates the consumer threads
+     */
+    public AsyncPipeline(Function<? super T, ? extends R> task, Consumer<? super R> sink, int parallelism,
+                         int capacity, boolean ordered, ThreadFactory factory) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Invalid parallelism " + parallelism);
+        }
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Invalid capacity " + capacity);
+        }
+        this.task = task;
+        this.sink = sink;
+        this.ordered = ordered;
+        queue = new BlockingDoubleLinkedQueue<Job<T>>();
+        inFlight = new Semaphore(capacity);
+        submitLock = new ReentrantLock();
+        sinkLock = new ReentrantLock();
+        completed = new HashMap<Long, Object>();
+        failure = new AtomicReference<Throwable>();
+        nextSequence = 0;
+        nextDelivery = 0;
+        closed = false;
+        workers = new ArrayList<Thread>(parallelism);
+        for (int i = 0; i < parallelism; i++) {
+            Thread worker = factory.newThread(new Runnable() {
+                @Override
+                public void run() {
+                    work();
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+    }
+
+    /**
+     * An inner class pairing a submitted item with its position in submission order
+     * @param <T>   generic type of the item
+     */
+    private static class Job<T> {
+        private final long sequence;    // -1 for the job which tells a consumer to stop
+        private final T item;
+
+        /**
+         * Constructor that creates a Job instance
+         * @param sequence  the position of the item in submission order
+         * @param item      the submitted item
+         */
+        private Job(long sequence, T item) {
+            this.sequence = sequence;
+            this.item = item;
+        }
+    }
+
+    /**
+     * Helper method run by each consumer thread, which applies the task to jobs until told to stop
+     */
+    private void work() {
+        try {
+            while (true) {
+                Job<T> job = queue.take();
+                if (job.sequence < 0) {
+                    return;
+                }
+                Object result = NO_RESULT;
+                try {
+                    R value = task.apply(job.item);
+                    result = (value == null) ? NULL_RESULT : value;
+                } catch (Throwable t) {
+                    // errors too, or the job's place in the pipeline would never be freed and later results would wait forever
+                    failure.compareAndSet(null, t);
+                } finally {
+                    complete(job.sequence, result);
+                }
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Helper method which delivers a result, or holds it until the results before it have been delivered
+     * @param sequence  the position of the item in submission order
+     * @param result    the result, NULL_RESULT or NO_RESULT
+     */
+    private void complete(long sequence, Object result) {
+        sinkLock.lock();
+        try {
+            if (!ordered) {
+                deliver(result);
+                return;
+            }
+            completed.put(sequence, result);
+            Object next;
+            while ((next = completed.remove(nextDelivery)) != null) {
+                deliver(next);
+                nextDelivery++;
+            }
+        } finally {
+            sinkLock.unlock();
+        }
+    }
+
+    /**
+     * Helper method which hands a result to the sink and frees its place in the pipeline. Must be called holding
+     * sinkLock.
+     * @param result    the result, NULL_RESULT or NO_RESULT
+     */
+    @SuppressWarnings("unchecked")
+    private void deliver(Object result) {
+        try {
+            if (result != NO_RESULT) {
+                sink.accept((result == NULL_RESULT) ? null : (R) result);
+            }
+        } catch (Throwable t) {
+            failure.compareAndSet(null, t);
+        } finally {
+            inFlight.release();
+        }
+    }
+
+    /**
+     * Adds an item to the pipeline, blocking while the pipeline is at capacity
+     * @param item  the item to apply the task to
+     * @throws InterruptedException     if interrupted while waiting for capacity
+     */
+    public void submit(T item) throws InterruptedException {
+        if (closed) {
+            throw new IllegalStateException("Pipeline is closed");
+        }
+        inFlight.acquire();
+        submitLock.lock();
+        try {
+            if (closed) {
+                inFlight.release();
+                throw new IllegalStateException("Pipeline is closed");
+            }
+            queue.put(new Job<T>(nextSequence++, item));
+        } finally {
+            submitLock.unlock();
+        }
+    }
+
+    /**
+     * Removes every element from the head of a deque, such as a DoubleLinkedList, and submits it, blocking whenever
+     * the pipeline is at capacity. Each element is only removed once it has been submitted, so if submit is
+     * interrupted or the pipeline is closed, the element not submitted is still at the head of the deque.
+     * @param source    the deque to drain
+     * @return          the number of items submitted
+     * @throws InterruptedException     if interrupted while waiting for capacity
+     */
+    public int submitAll(Deque<? extends T> source) throws InterruptedException {
+        int count = 0;
+        while (!source.isEmpty()) {
+            submit(source.peekFirst());
+            source.pollFirst();
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * Stops accepting items and waits for every submitted item to be delivered and for the consumer threads to finish
+     * @throws IllegalStateException    if the task or the sink threw, with the first exception or error thrown as its
+     *                                  cause
+     * @throws InterruptedException     if interrupted while waiting
+     */
+    @Override
+    public void close() throws InterruptedException {
+        submitLock.lock();
+        try {
+            if (!closed) {
+                closed = true;
+                for (int i = 0; i < workers.size(); i++) {
+                    queue.put(new Job<T>(-1, null));
+                }
+            }
+        } finally {
+            submitLock.unlock();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        Throwable t = failure.get();
+        if (t != null) {
+            throw new IllegalStateException("Pipeline task failed", t);
+        }
+    }
+}
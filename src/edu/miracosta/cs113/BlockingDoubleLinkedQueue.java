@@ -0,0 +1,512 @@
+package edu.miracosta.cs113;
+import java.util.*;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * BlockingDoubleLinkedQueue.java : A bounded, thread-safe FIFO queue for producer/consumer pipelines which blocks
+ * producers while it is full and consumers while it is empty. It uses the two-lock queue design: producers only touch
+ * the tail under putLock and consumers only touch the head under takeLock, with the element count kept in an atomic
+ * so that each side can tell whether to wake the other. The head is always a dummy Node whose successor holds the
+ * first element, so the two ends never share a Node while the queue holds anything.
+ *
+ * drainTo detaches a whole run of Nodes from the head in a single acquisition of takeLock, so a consumer which takes
+ * its work in batches pays one lock handoff per batch instead of one per element. The elements are handed to the
+ * target collection after takeLock is released, so a slow or blocking collection never holds up other consumers.
+ *
+ * The queue keeps its own singly linked chain rather than a DoubleLinkedList. Splitting the work between two locks
+ * depends on the dummy head: producers write only last and the next reference of the tail Node, consumers write only
+ * head, and the two never write the same field. DoubleLinkedList keeps head, tail, size and modCount in one object
+ * and links each Node in both directions, so both sides would have to write the same fields. The same reason makes
+ * this a BlockingQueue rather than a BlockingDeque: once either side may use either end, the ends can no longer be
+ * split between two locks, and java.util.concurrent.LinkedBlockingDeque uses a single lock for that reason.
+ *
+ * @param <E>   generic type of the data to be stored in nodes
+ * @see DoubleLinkedList
+ */
+public class BlockingDoubleLinkedQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+    // data fields
+    private final int capacity;
+    private final AtomicInteger count;
+    private Node<E> head;       // dummy Node, only changed while holding takeLock
+    private Node<E> last;       // only changed while holding putLock
+    private final ReentrantLock takeLock;
+    private final Condition notEmpty;
+    private final ReentrantLock putLock;
+    private final Condition notFull;
+
+    /**
+     *  Default constructor that creates an empty BlockingDoubleLinkedQueue with no practical bound
+     */
+    public BlockingDoubleLinkedQueue() {
+        this(Integer.MAX_VALUE);
+    }
+
+    /**
+     * Constructor that creates an empty BlockingDoubleLinkedQueue holding at most a specified number of elements
+     * @param capacity  the maximum number of elements, must be at least 1
+     */
+    public BlockingDoubleLinkedQueue(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Invalid capacity " + capacity);
+        }
+        this.capacity = capacity;
+        count = new AtomicInteger(0);
+        head = new Node<E>(null);
+        last = head;
+        takeLock = new ReentrantLock();
+        notEmpty = takeLock.newCondition();
+        putLock = new ReentrantLock();
+        notFull = putLock.newCondition();
+    }
+
+    /**
+     * An inner class for creating Nodes in the BlockingDoubleLinkedQueue which store data and a reference to the next
+     * node
+     * @param <E>   generic type of the data to be stored
+     */
+    private static class Node<E> {
+        private E data;
+        private Node<E> next = null;
+
+        /**
+         * Constructor that creates a Node instance that has data stored
+         * @param dataItem  data passed to be stored in the new Node
+         */
+        private Node(E dataItem) {
+            data = dataItem;
+        }
+    }
+
+    /**
+     * Helper method which links a Node after the tail. Must be called holding putLock.
+     * @param nodeRef   the Node to be added
+     */
+    private void enqueue(Node<E> nodeRef) {
+        last.next = nodeRef;
+        last = nodeRef;
+    }
+
+    /**
+     * Helper method which removes the first element by making its Node the new dummy head. Must be called holding
+     * takeLock with the queue not empty.
+     * @return      the removed element
+     */
+    private E dequeue() {
+        Node<E> first = head.next;
+        head.next = head;   // helps the garbage collector, the old head is unreachable from the queue
+        head = first;
+        E obj = first.data;
+        first.data = null;
+        return obj;
+    }
+
+    /**
+     * Helper method which wakes a waiting consumer, called by producers after the queue becomes non-empty
+     */
+    private void signalNotEmpty() {
+        takeLock.lock();
+        try {
+            notEmpty.signal();
+        } finally {
+            takeLock.unlock();
+        }
+    }
+
+    /**
+     * Helper method which wakes a waiting producer, called by consumers after the queue stops being full
+     */
+    private void signalNotFull() {
+        putLock.lock();
+        try {
+            notFull.signal();
+        } finally {
+            putLock.unlock();
+        }
+    }
+
+    /**
+     * Helper method which takes both locks, for operations which may touch any Node
+     */
+    private void fullyLock() {
+        putLock.lock();
+        takeLock.lock();
+    }
+
+    /**
+     * Helper method which releases both locks
+     */
+    private void fullyUnlock() {
+        takeLock.unlock();
+        putLock.unlock();
+    }
+
+    /**
+     * Helper method which finishes an addition by waking other producers and consumers as needed. Must be called
+     * holding putLock.
+     * @param nodeRef   the Node to be added
+     * @return          the count before the addition
+     */
+    private int enqueueAndSignal(Node<E> nodeRef) {
+        enqueue(nodeRef);
+        int previous = count.getAndIncrement();
+        if (previous + 1 < capacity) {
+            notFull.signal();
+        }
+        return previous;
+    }
+
+    /**
+     * Helper method which finishes a removal by waking other consumers as needed. Must be called holding takeLock with
+     * the queue not empty.
+     * @return      the count before the removal
+     */
+    private int decrementAndSignal() {
+        int previous = count.getAndDecrement();
+        if (previous > 1) {
+            notEmpty.signal();
+        }
+        return previous;
+    }
+
+    @Override
+    public void put(E o) throws InterruptedException {
+        if (o == null) {
+            throw new NullPointerException();
+        }
+        Node<E> nodeRef = new Node<E>(o);
+        int previous;
+        putLock.lockInterruptibly();
+        try {
+            while (count.get() >= capacity) {
+                notFull.await();
+            }
+            previous = enqueueAndSignal(nodeRef);
+        } finally {
+            putLock.unlock();
+        }
+        if (previous == 0) {
+            signalNotEmpty();
+        }
+    }
+
+    @Override
+    public boolean offer(E o, long timeout, TimeUnit unit) throws InterruptedException {
+        if (o == null) {
+            throw new NullPointerException();
+        }
+        long nanos = unit.toNanos(timeout);
+        Node<E> nodeRef = new Node<E>(o);
+        int previous;
+        putLock.lockInterruptibly();
+        try {
+            while (count.get() >= capacity) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = notFull.awaitNanos(nanos);
+            }
+            previous = enqueueAndSignal(nodeRef);
+        } finally {
+            putLock.unlock();
+        }
+        if (previous == 0) {
+            signalNotEmpty();
+        }
+        return true;
+    }
+
+    @Override
+    public boolean offer(E o) {
+        if (o == null) {
+            throw new NullPointerException();
+        }
+        if (count.get() >= capacity) {
+            return false;
+        }
+        Node<E> nodeRef = new Node<E>(o);
+        int previous = -1;
+        putLock.lock();
+        try {
+            if (count.get() < capacity) {
+                previous = enqueueAndSignal(nodeRef);
+            }
+        } finally {
+            putLock.unlock();
+        }
+        if (previous == 0) {
+            signalNotEmpty();
+        }
+        return (previous >= 0);
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        E obj;
+        int previous;
+        takeLock.lockInterruptibly();
+        try {
+            while (count.get() == 0) {
+                notEmpty.await();
+            }
+            obj = dequeue();
+            previous = decrementAndSignal();
+        } finally {
+            takeLock.unlock();
+        }
+        if (previous == capacity) {
+            signalNotFull();
+        }
+        return obj;
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        E obj;
+        int previous;
+        takeLock.lockInterruptibly();
+        try {
+            while (count.get() == 0) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = notEmpty.awaitNanos(nanos);
+            }
+            obj = dequeue();
+            previous = decrementAndSignal();
+        } finally {
+            takeLock.unlock();
+        }
+        if (previous == capacity) {
+            signalNotFull();
+        }
+        return obj;
+    }
+
+    @Override
+    public E poll() {
+        if (count.get() == 0) {
+            return null;
+        }
+        E obj = null;
+        int previous = 0;
+        takeLock.lock();
+        try {
+            if (count.get() > 0) {
+                obj = dequeue();
+                previous = decrementAndSignal();
+            }
+        } finally {
+            takeLock.unlock();
+        }
+        if (previous == capacity) {
+            signalNotFull();
+        }
+        return obj;
+    }
+
+    @Override
+    public E peek() {
+        if (count.get() == 0) {
+            return null;
+        }
+        takeLock.lock();
+        try {
+            return (count.get() > 0) ? head.next.data : null;
+        } finally {
+            takeLock.unlock();
+        }
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> collection) {
+        return drainTo(collection, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Removes up to max elements and adds them to a collection, detaching the whole run of Nodes from the head in a
+     * single acquisition of takeLock and adding the elements once it has been released. If the collection throws, the
+     * elements it has not accepted are put back at the head of the queue in their original order, which may leave the
+     * queue briefly above its capacity.
+     * @param collection    the collection the elements are added to, must not be this queue
+     * @param max           the maximum number of elements to move
+     * @return              the number of elements moved
+     */
+    @Override
+    public int drainTo(Collection<? super E> collection, int max) {
+        if (collection == null) {
+            throw new NullPointerException();
+        }
+        if (collection == this) {
+            throw new IllegalArgumentException("Cannot drain a queue into itself");
+        }
+        if (max <= 0) {
+            return 0;
+        }
+        int n;
+        Node<E> nodeRef;
+        E lastObj;
+        boolean wasFull;
+        takeLock.lock();
+        try {
+            n = Math.min(max, count.get());
+            if (n == 0) {
+                return 0;
+            }
+            // the last Node of the run becomes the new dummy head, so its element is taken out here
+            Node<E> newHead = head;
+            for (int k = 0; k < n; k++) {
+                newHead = newHead.next;
+            }
+            nodeRef = head.next;
+            head.next = head;   // helps the garbage collector, the old head is unreachable from the queue
+            head = newHead;
+            lastObj = newHead.data;
+            newHead.data = null;
+            wasFull = (count.getAndAdd(-n) >= capacity);
+        } finally {
+            takeLock.unlock();
+        }
+        if (wasFull) {
+            signalNotFull();
+        }
+
+        // the first n - 1 Nodes are no longer reachable from the queue, so they are read without a lock
+        int moved = 0;
+        try {
+            for (; moved < n - 1; moved++) {
+                E obj = nodeRef.data;
+                collection.add(obj);
+                nodeRef.data = null;
+                nodeRef = nodeRef.next;
+            }
+            collection.add(lastObj);
+            moved++;
+        } catch (Throwable t) {
+            List<E> remaining = new ArrayList<E>(n - moved);
+            for (; moved < n - 1; moved++) {
+                remaining.add(nodeRef.data);
+                nodeRef.data = null;
+                nodeRef = nodeRef.next;
+            }
+            remaining.add(lastObj);
+            restoreHead(remaining);
+            throw t;
+        }
+        return moved;
+    }
+
+    /**
+     * Helper method which puts elements back at the head of the queue, after a drainTo whose collection threw
+     * @param elements  the elements to put back, in queue order
+     */
+    private void restoreHead(List<E> elements) {
+        Node<E> first = new Node<E>(null);
+        Node<E> lastRef = first;
+        for (E obj : elements) {
+            lastRef.next = new Node<E>(obj);
+            lastRef = lastRef.next;
+        }
+        fullyLock();
+        try {
+            lastRef.next = head.next;
+            head.next = first.next;
+            if (last == head) {
+                last = lastRef;
+            }
+            if (count.getAndAdd(elements.size()) == 0) {
+                notEmpty.signal();
+            }
+        } finally {
+            fullyUnlock();
+        }
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return capacity - count.get();
+    }
+
+    @Override
+    public int size() {
+        return count.get();
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (o == null) {
+            return false;
+        }
+        fullyLock();
+        try {
+            for (Node<E> predecessor = head, nodeRef = head.next; nodeRef != null;
+                 predecessor = nodeRef, nodeRef = nodeRef.next) {
+                if (o.equals(nodeRef.data)) {
+                    nodeRef.data = null;
+                    predecessor.next = nodeRef.next;
+                    if (last == nodeRef) {
+                        last = predecessor;
+                    }
+                    if (count.getAndDecrement() == capacity) {
+                        notFull.signal();
+                    }
+                    return true;
+                }
+            }
+            return false;
+        } finally {
+            fullyUnlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        fullyLock();
+        try {
+            for (Node<E> nodeRef = head.next; nodeRef != null; nodeRef = nodeRef.next) {
+                nodeRef.data = null;
+            }
+            head.next = null;
+            last = head;
+            if (count.getAndSet(0) == capacity) {
+                notFull.signal();
+            }
+        } finally {
+            fullyUnlock();
+        }
+    }
+
+    /**
+     * Returns a consistent snapshot of the queue's elements, taken while holding both locks
+     * @return      a new array of the queue's elements from head to tail
+     */
+    @Override
+    public Object[] toArray() {
+        fullyLock();
+        try {
+            Object[] result = new Object[count.get()];
+            int i = 0;
+            for (Node<E> nodeRef = head.next; nodeRef != null; nodeRef = nodeRef.next) {
+                result[i++] = nodeRef.data;
+            }
+            return result;
+        } finally {
+            fullyUnlock();
+        }
+    }
+
+    /**
+     * Returns an Iterator over a snapshot of the queue, which never throws ConcurrentModificationException and does
+     * not support remove
+     * @return      an Iterator over the elements present when it was created
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Iterator<E> iterator() {
+        return (Iterator<E>) Collections.unmodifiableList(Arrays.asList(toArray())).iterator();
+    }
+}
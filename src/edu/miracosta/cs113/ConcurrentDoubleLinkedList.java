@@ -0,0 +1,361 @@
+package edu.miracosta.cs113;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
+/**
+ * ConcurrentDoubleLinkedList.java : A thread-safe double linked list which supports adding and removing at either end
+ * without locks. It follows Maged Michael's CAS-based deque: the head, the tail and a status word live together in an
+ * Anchor which is swapped with a single compare-and-set. A push first swings the Anchor to the new end in an unstable
+ * state, and then any thread that sees that state finishes linking the neighbouring Node and marks that same Anchor
+ * stable before its own operation proceeds, so a push allocates one Node and one Anchor and a pop allocates one Anchor.
+ * Null elements are not permitted, so pollFirst and pollLast can return null for an empty list.
+ *
+ * size() walks the list, so unlike most collections it takes O(n) time.
+ *
+ * Elements can only be added and removed at the ends. The iterator does not support remove, so remove(Object),
+ * removeAll, retainAll and removeIf, inherited from AbstractCollection, throw UnsupportedOperationException whenever
+ * they find an element to remove.
+ *
+ * @param <E>   generic type of the data to be stored in nodes
+ * @see DoubleLinkedList
+ */
+public class ConcurrentDoubleLinkedList<E> extends AbstractCollection<E> {
+    private static final int STABLE = 0;
+    private static final int PUSH_HEAD = 1;     // head was just pushed, head.next.prev may not point to it yet
+    private static final int PUSH_TAIL = 2;     // tail was just pushed, tail.prev.next may not point to it yet
+
+    // data fields
+    private final AtomicReference<Anchor<E>> anchor;
+
+    /**
+     *  Default constructor that creates an empty ConcurrentDoubleLinkedList
+     */
+    public ConcurrentDoubleLinkedList() {
+        anchor = new AtomicReference<Anchor<E>>(new Anchor<E>(null, null, STABLE));
+    }
+
+    /**
+     * An inner class for creating Nodes in the ConcurrentDoubleLinkedList which store data, a reference to the
+     * previous node, and a reference to the next node
+     * @param <E>   generic type of the data to be stored
+     */
+    private static class Node<E> {
+        // updaters are created in the class declaring the fields, where their access check always lets them reach
+        // private fields
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<Node, Node> NEXT =
+                AtomicReferenceFieldUpdater.newUpdater(Node.class, Node.class, "next");
+        @SuppressWarnings("rawtypes")
+        private static final AtomicReferenceFieldUpdater<Node, Node> PREV =
+                AtomicReferenceFieldUpdater.newUpdater(Node.class, Node.class, "prev");
+
+        private final E data;
+        private volatile Node<E> next = null;
+        private volatile Node<E> prev = null;
+
+        /**
+         * Constructor that creates a Node instance that has data stored
+         * @param dataItem  data passed to be stored in the new Node
+         */
+        private Node(E dataItem) {
+            data = dataItem;
+        }
+    }
+
+    /**
+     * An inner class holding a snapshot of both ends of the list and whether a push is still being linked. The ends
+     * never change, and the status only ever changes once, from PUSH_HEAD or PUSH_TAIL to STABLE. Apart from clear,
+     * no operation swaps out an unstable Anchor, so marking it stable in place is seen by every thread comparing
+     * against it.
+     * @param <E>   generic type of the data stored in the list
+     */
+    private static class Anchor<E> {
+        @SuppressWarnings("rawtypes")
+        private static final AtomicIntegerFieldUpdater<Anchor> STATUS =
+                AtomicIntegerFieldUpdater.newUpdater(Anchor.class, "status");
+
+        private final Node<E> head;
+        private final Node<E> tail;
+        private volatile int status;
+
+        /**
+         * Constructor that creates an Anchor instance
+         * @param head      the first Node, null for an empty list
+         * @param tail      the last Node, null for an empty list
+         * @param status    STABLE, PUSH_HEAD or PUSH_TAIL
+         */
+        private Anchor(Node<E> head, Node<E> tail, int status) {
+            this.head = head;
+            this.tail = tail;
+            this.status = status;
+        }
+    }
+
+    /**
+     * An inner class for creating a weakly consistent Iterator over ConcurrentDoubleLinkedList. It walks the Nodes
+     * between the head and tail that were in place when it was created, never throws
+     * ConcurrentModificationException, and may or may not reflect changes made after it was created.
+     */
+    private class ConcurrentListIterator implements Iterator<E> {
+        // data fields
+        private Node<E> nextItem;
+        private final Node<E> lastItem;
+
+        /**
+         * Default constructor which sets up an iterator at the head of the list
+         */
+        public ConcurrentListIterator() {
+            Anchor<E> a = stableAnchor();
+            nextItem = a.head;
+            lastItem = a.tail;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return (nextItem != null);
+        }
+
+        @Override
+        public E next() {
+            if(!hasNext()) {
+                throw new NoSuchElementException("No next element");
+            }
+            E data = nextItem.data;
+            nextItem = (nextItem == lastItem) ? null : nextItem.next;
+            return data;
+        }
+    }
+
+    /**
+     * Helper method which finishes linking a push that another thread left unstable
+     * @param a     the unstable Anchor that was read
+     */
+    private void stabilize(Anchor<E> a) {
+        if (a.status == PUSH_TAIL) {
+            stabilizeTail(a);
+        } else {
+            stabilizeHead(a);
+        }
+    }
+
+    /**
+     * Helper method which points the old tail's next reference at a newly pushed tail, then marks the Anchor stable
+     * @param a     an Anchor in the PUSH_TAIL state
+     */
+    private void stabilizeTail(Anchor<E> a) {
+        if (a.status != PUSH_TAIL) {
+            return;
+        }
+        Node<E> predecessor = a.tail.prev;
+        if (predecessor == null) {      // another thread finished the push and the old tail has since been removed
+            return;
+        }
+        Node<E> predecessorNext = predecessor.next;
+        if (predecessorNext != a.tail) {
+            if (a.status != PUSH_TAIL || !Node.NEXT.compareAndSet(predecessor, predecessorNext, a.tail)) {
+                return;
+            }
+        }
+        Anchor.STATUS.compareAndSet(a, PUSH_TAIL, STABLE);
+    }
+
+    /**
+     * Helper method which points the old head's prev reference at a newly pushed head, then marks the Anchor stable
+     * @param a     an Anchor in the PUSH_HEAD state
+     */
+    private void stabilizeHead(Anchor<E> a) {
+        if (a.status != PUSH_HEAD) {
+            return;
+        }
+        Node<E> successor = a.head.next;
+        if (successor == null) {        // another thread finished the push and the old head has since been removed
+            return;
+        }
+        Node<E> successorPrev = successor.prev;
+        if (successorPrev != a.head) {
+            if (a.status != PUSH_HEAD || !Node.PREV.compareAndSet(successor, successorPrev, a.head)) {
+                return;
+            }
+        }
+        Anchor.STATUS.compareAndSet(a, PUSH_HEAD, STABLE);
+    }
+
+    /**
+     * Helper method which returns the current Anchor once no push is left unstable
+     * @return      a stable Anchor
+     */
+    private Anchor<E> stableAnchor() {
+        while (true) {
+            Anchor<E> a = anchor.get();
+            if (a.status == STABLE) {
+                return a;
+            }
+            stabilize(a);
+        }
+    }
+
+    /**
+     * Inserts an element at the head of this list
+     * @param o     the element to be added, must not be null
+     */
+    public void addFirst(E o) {
+        if (o == null) {
+            throw new NullPointerException();
+        }
+        Node<E> nodeRef = new Node<E>(o);
+        while (true) {
+            Anchor<E> a = anchor.get();
+            if (a.head == null) {
+                if (anchor.compareAndSet(a, new Anchor<E>(nodeRef, nodeRef, STABLE))) {
+                    return;
+                }
+            } else if (a.status == STABLE) {
+                nodeRef.next = a.head;
+                Anchor<E> pushed = new Anchor<E>(nodeRef, a.tail, PUSH_HEAD);
+                if (anchor.compareAndSet(a, pushed)) {
+                    stabilizeHead(pushed);
+                    return;
+                }
+            } else {
+                stabilize(a);
+            }
+        }
+    }
+
+    /**
+     * Inserts an element at the tail of this list
+     * @param o     the element to be added, must not be null
+     */
+    public void addLast(E o) {
+        if (o == null) {
+            throw new NullPointerException();
+        }
+        Node<E> nodeRef = new Node<E>(o);
+        while (true) {
+            Anchor<E> a = anchor.get();
+            if (a.tail == null) {
+                if (anchor.compareAndSet(a, new Anchor<E>(nodeRef, nodeRef, STABLE))) {
+                    return;
+                }
+            } else if (a.status == STABLE) {
+                nodeRef.prev = a.tail;
+                Anchor<E> pushed = new Anchor<E>(a.head, nodeRef, PUSH_TAIL);
+                if (anchor.compareAndSet(a, pushed)) {
+                    stabilizeTail(pushed);
+                    return;
+                }
+            } else {
+                stabilize(a);
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the element at the head of this list
+     * @return      the former head element, or null if the list is empty
+     */
+    public E pollFirst() {
+        while (true) {
+            Anchor<E> a = anchor.get();
+            if (a.head == null) {
+                return null;
+            }
+            if (a.head == a.tail) {
+                if (anchor.compareAndSet(a, new Anchor<E>(null, null, STABLE))) {
+                    return a.head.data;
+                }
+            } else if (a.status == STABLE) {
+                if (anchor.compareAndSet(a, new Anchor<E>(a.head.next, a.tail, STABLE))) {
+                    // the new head still points back at the removed Node, so cut the chain there to let the Nodes
+                    // removed before it be collected
+                    Node.PREV.lazySet(a.head, null);
+                    return a.head.data;
+                }
+            } else {
+                stabilize(a);
+            }
+        }
+    }
+
+    /**
+     * Removes and returns the element at the tail of this list
+     * @return      the former tail element, or null if the list is empty
+     */
+    public E pollLast() {
+        while (true) {
+            Anchor<E> a = anchor.get();
+            if (a.tail == null) {
+                return null;
+            }
+            if (a.head == a.tail) {
+                if (anchor.compareAndSet(a, new Anchor<E>(null, null, STABLE))) {
+                    return a.tail.data;
+                }
+            } else if (a.status == STABLE) {
+                if (anchor.compareAndSet(a, new Anchor<E>(a.head, a.tail.prev, STABLE))) {
+                    // the new tail still points on to the removed Node, so cut the chain there to let the Nodes
+                    // removed before it be collected
+                    Node.NEXT.lazySet(a.tail, null);
+                    return a.tail.data;
+                }
+            } else {
+                stabilize(a);
+            }
+        }
+    }
+
+    /**
+     * Returns the element at the head of this list without removing it
+     * @return      the head element, or null if the list is empty
+     */
+    public E peekFirst() {
+        Node<E> nodeRef = anchor.get().head;
+        return (nodeRef == null) ? null : nodeRef.data;
+    }
+
+    /**
+     * Returns the element at the tail of this list without removing it
+     * @return      the tail element, or null if the list is empty
+     */
+    public E peekLast() {
+        Node<E> nodeRef = anchor.get().tail;
+        return (nodeRef == null) ? null : nodeRef.data;
+    }
+
+    @Override
+    public boolean add(E o) {
+        addLast(o);
+        return true;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return (anchor.get().head == null);
+    }
+
+    /**
+     * Returns the number of elements in this list. This walks the list, and under concurrent modification the result
+     * may not match the size at any single moment.
+     * @return      the number of elements counted
+     */
+    @Override
+    public int size() {
+        int count = 0;
+        for (Iterator<E> iteratorRef = iterator(); iteratorRef.hasNext(); iteratorRef.next()) {
+            count++;
+        }
+        return count;
+    }
+
+    @Override
+    public void clear() {
+        anchor.set(new Anchor<E>(null, null, STABLE));
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new ConcurrentListIterator();
+    }
+}
@@ -1,51 +1,128 @@
 package edu.miracosta.cs113;
+import java.lang.reflect.Array;
 import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 /**
- * DoubleLinkedList.java : A double linked list which implements list methods, contains nodes of generic type E
+ * DoubleLinkedList.java : A double linked list which implements list methods, contains nodes of generic type E. It also
+ * implements Deque, whose operations work directly on the head and tail without seeking or creating an iterator.
  *
  * @author      Aaron McCully <amccully2001@gmail.com>
  * @version     1.0
  *
  * @param <E>   generic type of the data to be stored in nodes
  */
-public class DoubleLinkedList<E> implements List<E> {
+public class DoubleLinkedList<E> implements List<E>, Deque<E> {
+    private static final int HASH_THRESHOLD = 16;   // bulk operation arguments larger than this are copied to a HashSet
+    private static final int PARALLEL_THRESHOLD = 1 << 13;  // parallelSort sorts smaller lists sequentially
+    private static final int PARALLEL_GRAIN = 1 << 12;      // longest run a SortTask sorts without splitting
+
     // data fields
     private Node<E> head;
     private Node<E> tail;
     private int size;
+    private Node<E> cursor;     // last Node found by position, null whenever the structure of the list changes
+    private int cursorIndex;
+    private int modCount;       // number of structural changes, checked by iterators to fail fast
+    private Map<Object, Object> nodeIndex;  // element -> its Node, or a Set of Nodes for repeated elements; null if not indexed
+    private boolean handlesIssued;  // whether removed Nodes may still be referenced by a Handle, since the last clear
+    private DoubleLinkedListPublisher<E> publisher;     // null until publisher() is first called
 
     /**
      *  Default constructor that creates an empty DoubleLinkedList
      */
     public DoubleLinkedList() {
+        this(false);
+    }
+
+    /**
+     * Constructor that creates an empty DoubleLinkedList, optionally keeping a hash index from each element to the
+     * Nodes holding it. An indexed list answers contains in O(1) and removes by value in O(1) when elements are not
+     * repeated, while indexOf and lastIndexOf only walk as far as the position of the element found. The index costs
+     * a map entry per distinct element and a map update on every add, remove and set.
+     * @param indexed   true to keep the hash index
+     */
+    public DoubleLinkedList(boolean indexed) {
         head = null;
         tail = null;
         size = 0;
+        cursor = null;
+        cursorIndex = 0;
+        modCount = 0;
+        nodeIndex = indexed ? new HashMap<Object, Object>() : null;
+        handlesIssued = false;
+        publisher = null;
     }
 
     @Override
     public String toString() {
+        return toString(size);
+    }
+
+    /**
+     * Returns a String of the list's elements which shows at most the first n and last n elements, replacing the
+     * elements in between with "...", so that very large lists can be logged cheaply
+     * @param n     the number of elements to show from each end of the list
+     * @return      a String of the form [e0, e1, ..., eSize-1]
+     */
+    public String toString(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Invalid element count " + n);
+        }
         Node<E> nodeRef = head;
-        String result = "[";
+        StringBuilder result = new StringBuilder("[");
+        if (size > 2L * n) {
+            for (int i = 0; i < n; i++) {
+                result.append(nodeRef.data).append(", ");
+                nodeRef = nodeRef.next;
+            }
+            result.append("...");
+            if (n == 0) {
+                nodeRef = null;
+            } else {
+                result.append(", ");
+                nodeRef = tail;
+                for (int i = 1; i < n; i++) {
+                    nodeRef = nodeRef.prev;
+                }
+            }
+        }
         while(nodeRef != null) {
-            result += nodeRef.data;
+            result.append(nodeRef.data);
             if(nodeRef.next != null) {
-                result += ", ";
+                result.append(", ");
             }
             nodeRef = nodeRef.next;
         }
-        return result + "]";
+        return result.append("]").toString();
+    }
+
+    /**
+     * An opaque reference to one element of a DoubleLinkedList, returned by the handle variants of add. A handle stays
+     * valid while its element is in the list, whatever is added or removed around it, and lets the element be removed
+     * or have neighbours inserted beside it in O(1) without searching the list.
+     * @param <E>   generic type of the data referred to
+     */
+    public interface Handle<E> {
+        /**
+         * Returns the element this handle refers to
+         * @return      the element, which is still returned after it has been removed from the list
+         */
+        E get();
     }
 
     /**
      * An inner class for creating Nodes in the DoubleLinkedList which store data, a reference to the previous node, and a reference to the next node
      * @param <E>   generic type of the data to be stored
      */
-    private static class Node<E> {
+    private static class Node<E> implements Handle<E> {
         private E data;
         private Node<E> next = null;
         private Node<E> prev = null;
+        private DoubleLinkedList<E> owner = null;   // the list holding the Node, kept up to date once given out as a Handle
 
         /**
          * Constructor that creates a Node instance that has data stored
@@ -54,6 +131,11 @@ public class DoubleLinkedList<E> implements List<E> {
         private Node(E dataItem) {
             data = dataItem;
         }
+
+        @Override
+        public E get() {
+            return data;
+        }
     }
 
     /**
@@ -64,6 +146,7 @@ public class DoubleLinkedList<E> implements List<E> {
         private Node<E> nextItem;
         private Node<E> lastItemReturned;
         private int index;
+        private int expectedModCount;
 
         /**
          * Default constructor which sets up a list iterator at position 0
@@ -72,6 +155,7 @@ public class DoubleLinkedList<E> implements List<E> {
             lastItemReturned = null;
             nextItem = head;
             index = 0;
+            expectedModCount = modCount;
         }
 
         /**
@@ -83,24 +167,23 @@ public class DoubleLinkedList<E> implements List<E> {
                 throw new IndexOutOfBoundsException("Invalid index " + i);
             }
             lastItemReturned = null;
+            index = i;
             if (i == size) {
-                index = size;
                 nextItem = null;
             } else {
-                nextItem = head;
-                for (index = 0; index < i; index++) {
-                    nextItem = nextItem.next;
-                }
+                nextItem = node(i);
             }
+            expectedModCount = modCount;
         }
 
         @Override
         public boolean hasNext() {
-            return (nextItem != null);
+            return (index < size);
         }
 
         @Override
         public E next() {
+            checkForComodification();
             if(!hasNext()) {
                 throw new NoSuchElementException("No next element");
             }
@@ -120,6 +203,7 @@ public class DoubleLinkedList<E> implements List<E> {
 
         @Override
         public E previous() {
+            checkForComodification();
             if(!hasPrevious()) {
                 throw new NoSuchElementException("No previous element");
             }
@@ -155,27 +239,16 @@ public class DoubleLinkedList<E> implements List<E> {
             if(lastItemReturned == null) {
                 throw new IllegalStateException("No last element returned");
             }
-            if(tail == lastItemReturned) {
-                tail.prev.next = null;
-                tail = tail.prev;
-            }
-            else if(head == lastItemReturned) {
-                if(head.next == null) {
-                    head = null;
-                    tail = null;
-                }
-                else {
-                    head = head.next;
-                    head.prev = null;
-                }
+            checkForComodification();
+            if(nextItem == lastItemReturned) {  // last move was previous(), so the cursor now sits before the next Node
+                nextItem = lastItemReturned.next;
             }
             else {
-                lastItemReturned.prev.next = lastItemReturned.next;
-                lastItemReturned.next.prev = lastItemReturned.prev;
+                index--;
             }
-            size--;
-            index--;    //?
+            unlink(lastItemReturned);
             lastItemReturned = null;
+            expectedModCount = modCount;
         }
 
         @Override
@@ -183,213 +256,2105 @@ public class DoubleLinkedList<E> implements List<E> {
             if(lastItemReturned == null) {
                 throw new IllegalStateException("No last element returned");
             }
-            lastItemReturned.data = o;
+            checkForComodification();
+            replaceData(lastItemReturned, o);
             lastItemReturned = null;
         }
 
         @Override
         public void add(E o) {
-            if(head == null) {  // adding to an empty list
-                head = new Node<E>(o);
-                tail = head;
-            }
-            else if(nextItem == head) {  // adding to the head of the list
-                Node<E> nodeRef = new Node<E>(o);
-                nodeRef.next = head;
-                head.prev = nodeRef;
-                head = nodeRef;
-            }
-            else if(nextItem == null) {  // since we already checked for list being empty, we only need to see if nextItem is null
-                Node<E> nodeRef = new Node<E>(o);
-                nodeRef.prev = tail;
-                tail.next = nodeRef;
-                tail = nodeRef;
-            }
-            else {
-                Node<E> nodeRef = new Node<E>(o);
-                nodeRef.next = nextItem;
-                nodeRef.prev = nextItem.prev;
-                nextItem.prev.next = nodeRef;
-                nextItem.prev = nodeRef;
-            }
-            size++;
+            checkForComodification();
+            linkBefore(nextItem, o);
             index++;
             lastItemReturned = null;
+            expectedModCount = modCount;
         }
-    }
 
-    @Override
-    public int size() {
-        return size;
+        /**
+         * Helper method which throws if the list was structurally modified other than through this iterator
+         */
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
     }
 
-    @Override
-    public boolean isEmpty() {
-        return (head == null && tail == null && size == 0);
-    }
+    /**
+     * An inner class for creating an Iterator which traverses DoubleLinkedList from the tail to the head
+     */
+    private class DescendingIterator implements Iterator<E> {
+        // data fields
+        private final DoubleListIterator iteratorRef = new DoubleListIterator(size);
 
-    @Override
-    public boolean contains(Object o) {
-        return (indexOf(o) != -1);
-    }
+        @Override
+        public boolean hasNext() {
+            return iteratorRef.hasPrevious();
+        }
 
-    @Override
-    public boolean equals(Object o) {
-        if(!(o instanceof LinkedList)) {
-            return false;
+        @Override
+        public E next() {
+            return iteratorRef.previous();
         }
-        LinkedList oListRef = (LinkedList)o;
-        if(this.size() != oListRef.size()) {
-            return false;
+
+        @Override
+        public void remove() {
+            iteratorRef.remove();
         }
-        ListIterator oIterator = oListRef.listIterator();
-        ListIterator thisIterator = this.listIterator();
-        for(int i = 0; i < size; i++) {
-            if(!(oIterator.next().equals(thisIterator.next()))) {
+    }
+
+    /**
+     * An inner class for creating a Spliterator over a run of Nodes in DoubleLinkedList. Since it knows exactly how
+     * many Nodes it covers, it splits by walking half of its run and reports SIZED and SUBSIZED, so parallel streams
+     * get balanced halves instead of the iterator-based batches of the default List spliterator.
+     */
+    private class DoubleListSpliterator implements Spliterator<E> {
+        // data fields
+        private Node<E> current;
+        private int remaining;
+        private final int expectedModCount;
+
+        /**
+         * Constructor which sets up a spliterator over a run of Nodes
+         * @param first             the first Node of the run
+         * @param count             the number of Nodes in the run
+         * @param expectedModCount  the modCount of the list when the run was taken
+         */
+        private DoubleListSpliterator(Node<E> first, int count, int expectedModCount) {
+            current = first;
+            remaining = count;
+            this.expectedModCount = expectedModCount;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super E> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            if (remaining <= 0) {
                 return false;
             }
+            E data = current.data;
+            current = current.next;
+            remaining--;
+            action.accept(data);
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            return true;
         }
-        return true;
-    }
 
-    @Override
-    public Iterator iterator() {
-        return new DoubleListIterator();
-    }
+        @Override
+        public void forEachRemaining(Consumer<? super E> action) {
+            if (action == null) {
+                throw new NullPointerException();
+            }
+            Node<E> nodeRef = current;
+            for (int i = remaining; i > 0; i--) {
+                action.accept(nodeRef.data);
+                nodeRef = nodeRef.next;
+            }
+            current = nodeRef;
+            remaining = 0;
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
 
-    @Override
-    public Object[] toArray() {
-        return new Object[0];
-    }
+        @Override
+        public Spliterator<E> trySplit() {
+            int half = remaining >>> 1;
+            if (half == 0) {
+                return null;
+            }
+            Node<E> first = current;
+            for (int i = 0; i < half; i++) {
+                current = current.next;
+            }
+            remaining -= half;
+            return new DoubleListSpliterator(first, half, expectedModCount);
+        }
 
-    @Override
-    public boolean add(E o) {
-        add(size, o);
-        return true; // should always be true unless some unexpected error, which would stop program at the line above
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED;
+        }
     }
 
-    @Override
-    public boolean remove(Object o) {
-        int index = indexOf(o);
-        try {
-            remove(index);
-            return true;
+    /**
+     * An inner class for creating a live view of a range of DoubleLinkedList. The view remembers the Nodes just
+     * outside its range, which only it can change while it is valid, so both ends of the range are found in O(1).
+     */
+    private class SubList extends AbstractList<E> {
+        // data fields
+        private final SubList parentView;   // the view this one was taken from, null for a view of the list itself
+        private final Node<E> before;       // the Node before the range, null if the range starts at the head
+        private final Node<E> after;        // the Node after the range, null if the range ends at the tail
+        private final int offset;           // index of the first element of the range in the list
+        private int size;
+        private int expectedModCount;
+
+        /**
+         * Constructor which sets up a view of a range, seeking its boundary Nodes
+         * @param parentView    the view the range is relative to, or null for the list itself
+         * @param from          the index of the first element, relative to parentView
+         * @param to            the index after the last element, relative to parentView
+         */
+        private SubList(SubList parentView, int from, int to) {
+            int parentSize = (parentView == null) ? DoubleLinkedList.this.size : parentView.size;
+            if (from < 0 || to > parentSize || from > to) {
+                throw new IndexOutOfBoundsException("Invalid range " + from + " to " + to);
+            }
+            if (parentView != null) {
+                parentView.checkForComodification();
+            }
+            this.parentView = parentView;
+            offset = (parentView == null) ? from : parentView.offset + from;
+            size = to - from;
+            Node<E> last = (to == from) ? null : node(offset + size - 1);
+            if (last == null) {
+                after = (offset == DoubleLinkedList.this.size) ? null : node(offset);
+                before = (after == null) ? tail : after.prev;
+            } else {
+                after = last.next;
+                before = (size == 1) ? last.prev : node(offset).prev;
+            }
+            expectedModCount = DoubleLinkedList.this.modCount;
         }
-        catch(IndexOutOfBoundsException ioobe) {
-            return false;
+
+        /**
+         * Helper method which throws if the list was structurally modified other than through this view
+         */
+        private void checkForComodification() {
+            if (DoubleLinkedList.this.modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
         }
-    }
 
-    @Override
-    public boolean addAll(Collection collection) {
-        return false;
-    }
+        /**
+         * Helper method which records a structural change made through this view in it and the views it came from
+         * @param delta     the change in the number of elements
+         */
+        private void changed(int delta) {
+            for (SubList view = this; view != null; view = view.parentView) {
+                view.size += delta;
+                view.expectedModCount = DoubleLinkedList.this.modCount;
+            }
+        }
 
-    @Override
-    public boolean addAll(int i, Collection collection) {
-        return false;
-    }
+        /**
+         * Helper method which finds the Node at a position in the view
+         * @param i     the index within the view, must be in the range [0, size)
+         * @return      the Node at that position
+         */
+        private Node<E> nodeAt(int i) {
+            if (i < 0 || i >= size) {
+                throw new IndexOutOfBoundsException("Invalid index " + i);
+            }
+            checkForComodification();
+            return node(offset + i);
+        }
 
-    @Override
-    public void clear() {
-        head = null;
-        tail = null;
-        size = 0;
-    }
+        @Override
+        public int size() {
+            checkForComodification();
+            return size;
+        }
 
-    @Override
-    public E get(int i) {
-        if(i < 0 || i >= size()) {
-            throw new IndexOutOfBoundsException();
+        @Override
+        public E get(int i) {
+            return nodeAt(i).data;
         }
-        return (E)listIterator(i).next();
-    }
 
-    @Override
-    public E set(int i, E o) {
-        ListIterator iteratorRef = listIterator(i);
-        if(!iteratorRef.hasNext()) {
-            throw new IndexOutOfBoundsException();
+        @Override
+        public E set(int i, E o) {
+            Node<E> nodeRef = nodeAt(i);
+            E obj = nodeRef.data;
+            replaceData(nodeRef, o);
+            return obj;
         }
-        E obj = (E)iteratorRef.next();
-        iteratorRef.set(o);
-        return obj;
-    }
 
-    @Override
-    public void add(int i, E obj) {
-        listIterator(i).add(obj);
-    }
+        @Override
+        public void add(int i, E o) {
+            if (i == size) {
+                checkForComodification();
+                linkBefore(after, o);
+            } else {
+                linkBefore(nodeAt(i), o);
+            }
+            changed(1);
+        }
 
-    @Override
-    public E remove(int i) {
-        ListIterator iteratorRef = listIterator(i);
-        if(!iteratorRef.hasNext()) {
-            throw new IndexOutOfBoundsException();
+        @Override
+        public E remove(int i) {
+            Node<E> nodeRef = nodeAt(i);
+            unlink(nodeRef);
+            changed(-1);
+            return nodeRef.data;
         }
-        E obj = (E)iteratorRef.next();
-        iteratorRef.remove();
-        return obj;
-    }
 
-    @Override
-    public int indexOf(Object o) {
-        ListIterator iteratorRef = listIterator();
-        while(iteratorRef.hasNext()) {
-            int num = iteratorRef.nextIndex();
-            if(o.equals(iteratorRef.next())) {
-                return(num);
+        /**
+         * Removes every element of the view from the list by relinking the Nodes on either side of the range
+         */
+        @Override
+        public void clear() {
+            checkForComodification();
+            if (size > 0) {
+                Node<E> first = (before == null) ? head : before.next;
+                Node<E> last = (after == null) ? tail : after.prev;
+                unlinkRange(first, last, size);
+                changed(-size);
             }
         }
-        return -1;
-    }
 
-    @Override
-    public int lastIndexOf(Object o) {
-        ListIterator iteratorRef = listIterator();
-        int indexReturn = -1;
-        while(iteratorRef.hasNext()) {
-            int num = iteratorRef.nextIndex();
-            if(o.equals(iteratorRef.next())) {
-                indexReturn = num;
+        @Override
+        public Iterator<E> iterator() {
+            return listIterator(0);
+        }
+
+        @Override
+        public ListIterator<E> listIterator(int i) {
+            if (i < 0 || i > size) {
+                throw new IndexOutOfBoundsException("Invalid index " + i);
             }
+            checkForComodification();
+            return new SubListIterator(this, i);
         }
-        return indexReturn;
-    }
 
-    @Override
-    public ListIterator listIterator() {
-        return new DoubleListIterator();
+        @Override
+        public List<E> subList(int from, int to) {
+            return new SubList(this, from, to);
+        }
     }
 
-    @Override
-    public ListIterator listIterator(int i) {
-        return new DoubleListIterator(i);
-    }
+    /**
+     * An inner class for creating a ListIterator over a SubList, which walks the list's own iterator within the range
+     */
+    private class SubListIterator implements ListIterator<E> {
+        // data fields
+        private final SubList view;
+        private final DoubleListIterator iteratorRef;
 
-    @Override
-    public List subList(int i, int i1) {
-        return null;
-    }
+        /**
+         * Constructor which sets up an iterator at a position in a view
+         * @param view  the view to be traversed
+         * @param i     the index within the view that the iterator will begin at
+         */
+        private SubListIterator(SubList view, int i) {
+            this.view = view;
+            iteratorRef = new DoubleListIterator(view.offset + i);
+        }
 
-    @Override
-    public boolean retainAll(Collection collection) {
-        return false;
-    }
+        @Override
+        public boolean hasNext() {
+            return (nextIndex() < view.size);
+        }
 
-    @Override
-    public boolean removeAll(Collection collection) {
-        return false;
-    }
+        @Override
+        public E next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No next element");
+            }
+            return iteratorRef.next();
+        }
 
-    @Override
-    public boolean containsAll(Collection collection) {
-        return false;
-    }
+        @Override
+        public boolean hasPrevious() {
+            return (nextIndex() > 0);
+        }
 
-    @Override
-    public Object[] toArray(Object[] objects) {
-        return new Object[0];
+        @Override
+        public E previous() {
+            if (!hasPrevious()) {
+                throw new NoSuchElementException("No previous element");
+            }
+            return iteratorRef.previous();
+        }
+
+        @Override
+        public int nextIndex() {
+            return iteratorRef.index - view.offset;
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex() - 1;
+        }
+
+        @Override
+        public void remove() {
+            iteratorRef.remove();
+            view.changed(-1);
+        }
+
+        @Override
+        public void set(E o) {
+            iteratorRef.set(o);
+        }
+
+        @Override
+        public void add(E o) {
+            iteratorRef.add(o);
+            view.changed(1);
+        }
+    }
+
+    /**
+     * An inner class for creating a reverse-ordered view of a DoubleLinkedList, in which the head of the view is the
+     * tail of the list. Every operation is carried out on the list, so changes made through either are seen by the
+     * other. The splicing methods, moveToFront and publisher are not supported by the view and throw
+     * UnsupportedOperationException.
+     * @param <E>   generic type of the data stored in the list
+     */
+    private static class ReversedView<E> extends DoubleLinkedList<E> {
+        // data fields
+        private final DoubleLinkedList<E> list;
+
+        /**
+         * Constructor that creates a view of a list in reverse order
+         * @param list  the list seen through the view
+         */
+        private ReversedView(DoubleLinkedList<E> list) {
+            this.list = list;
+        }
+
+        /**
+         * Helper method which reverses the first count entries of an array in place
+         * @param items     the array to reverse
+         * @param count     the number of entries to reverse
+         */
+        private static void reverse(Object[] items, int count) {
+            for (int i = 0, j = count - 1; i < j; i++, j--) {
+                Object swap = items[i];
+                items[i] = items[j];
+                items[j] = swap;
+            }
+        }
+
+        @Override
+        public int size() {
+            return list.size;
+        }
+
+        @Override
+        public boolean isEmpty() {
+            return list.size == 0;
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return list.contains(o);
+        }
+
+        @Override
+        public boolean containsAll(Collection<?> collection) {
+            return list.containsAll(collection);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o == this) {
+                return true;
+            }
+            if (!(o instanceof List)) {
+                return false;
+            }
+            Iterator<?> other = ((List<?>) o).iterator();
+            for (Node<E> nodeRef = list.tail; nodeRef != null; nodeRef = nodeRef.prev) {
+                if (!other.hasNext() || !Objects.equals(nodeRef.data, other.next())) {
+                    return false;
+                }
+            }
+            return !other.hasNext();
+        }
+
+        @Override
+        public int hashCode() {
+            int result = 1;
+            for (Node<E> nodeRef = list.tail; nodeRef != null; nodeRef = nodeRef.prev) {
+                result = 31 * result + Objects.hashCode(nodeRef.data);
+            }
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return toString(list.size);
+        }
+
+        @Override
+        public String toString(int n) {
+            if (n < 0) {
+                throw new IllegalArgumentException("Invalid element count " + n);
+            }
+            Node<E> nodeRef = list.tail;
+            StringBuilder result = new StringBuilder("[");
+            if (list.size > 2L * n) {
+                for (int i = 0; i < n; i++) {
+                    result.append(nodeRef.data).append(", ");
+                    nodeRef = nodeRef.prev;
+                }
+                result.append("...");
+                if (n == 0) {
+                    nodeRef = null;
+                } else {
+                    result.append(", ");
+                    nodeRef = list.head;
+                    for (int i = 1; i < n; i++) {
+                        nodeRef = nodeRef.next;
+                    }
+                }
+            }
+            while (nodeRef != null) {
+                result.append(nodeRef.data);
+                if (nodeRef.prev != null) {
+                    result.append(", ");
+                }
+                nodeRef = nodeRef.prev;
+            }
+            return result.append("]").toString();
+        }
+
+        @Override
+        public Iterator<E> iterator() {
+            return list.descendingIterator();
+        }
+
+        @Override
+        public Iterator<E> descendingIterator() {
+            return list.new DoubleListIterator();
+        }
+
+        @Override
+        public Spliterator<E> spliterator() {
+            return Spliterators.spliterator(this, Spliterator.ORDERED);
+        }
+
+        @Override
+        public Object[] toArray() {
+            Object[] result = list.toArray();
+            reverse(result, result.length);
+            return result;
+        }
+
+        @Override
+        public <T> T[] toArray(T[] array) {
+            int count = list.size;
+            T[] result = list.toArray(array);
+            reverse(result, count);
+            return result;
+        }
+
+        @Override
+        public DoubleLinkedList<E> reversed() {
+            return list;
+        }
+
+        @Override
+        public boolean add(E o) {
+            list.addFirst(o);
+            return true;
+        }
+
+        @Override
+        public void add(int i, E o) {
+            list.add(list.size - i, o);
+        }
+
+        @Override
+        public boolean addAll(Collection<? extends E> collection) {
+            return addAll(list.size, collection);
+        }
+
+        @Override
+        public boolean addAll(int i, Collection<? extends E> collection) {
+            List<E> items = new ArrayList<E>(collection);
+            Collections.reverse(items);
+            return list.addAll(list.size - i, items);
+        }
+
+        @Override
+        public void addFirst(E o) {
+            list.addLast(o);
+        }
+
+        @Override
+        public void addLast(E o) {
+            list.addFirst(o);
+        }
+
+        @Override
+        public boolean offerFirst(E o) {
+            return list.offerLast(o);
+        }
+
+        @Override
+        public boolean offerLast(E o) {
+            return list.offerFirst(o);
+        }
+
+        @Override
+        public boolean offer(E o) {
+            return list.offerFirst(o);
+        }
+
+        @Override
+        public void push(E o) {
+            list.addLast(o);
+        }
+
+        @Override
+        public E get(int i) {
+            return list.get(list.size - 1 - i);
+        }
+
+        @Override
+        public E set(int i, E o) {
+            return list.set(list.size - 1 - i, o);
+        }
+
+        @Override
+        public E remove(int i) {
+            return list.remove(list.size - 1 - i);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            return list.removeLastOccurrence(o);
+        }
+
+        @Override
+        public E remove() {
+            return list.removeLast();
+        }
+
+        @Override
+        public E removeFirst() {
+            return list.removeLast();
+        }
+
+        @Override
+        public E removeLast() {
+            return list.removeFirst();
+        }
+
+        @Override
+        public E pop() {
+            return list.removeLast();
+        }
+
+        @Override
+        public E pollFirst() {
+            return list.pollLast();
+        }
+
+        @Override
+        public E pollLast() {
+            return list.pollFirst();
+        }
+
+        @Override
+        public E poll() {
+            return list.pollLast();
+        }
+
+        @Override
+        public E getFirst() {
+            return list.getLast();
+        }
+
+        @Override
+        public E getLast() {
+            return list.getFirst();
+        }
+
+        @Override
+        public E element() {
+            return list.getLast();
+        }
+
+        @Override
+        public E peekFirst() {
+            return list.peekLast();
+        }
+
+        @Override
+        public E peekLast() {
+            return list.peekFirst();
+        }
+
+        @Override
+        public E peek() {
+            return list.peekLast();
+        }
+
+        @Override
+        public boolean removeFirstOccurrence(Object o) {
+            return list.removeLastOccurrence(o);
+        }
+
+        @Override
+        public boolean removeLastOccurrence(Object o) {
+            return list.removeFirstOccurrence(o);
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            int i = list.lastIndexOf(o);
+            return (i < 0) ? -1 : list.size - 1 - i;
+        }
+
+        @Override
+        public int lastIndexOf(Object o) {
+            int i = list.indexOf(o);
+            return (i < 0) ? -1 : list.size - 1 - i;
+        }
+
+        @Override
+        public ListIterator<E> listIterator() {
+            return listIterator(0);
+        }
+
+        @Override
+        public ListIterator<E> listIterator(int i) {
+            if (i < 0 || i > list.size) {
+                throw new IndexOutOfBoundsException("Invalid index " + i);
+            }
+            final ListIterator<E> iteratorRef = list.new DoubleListIterator(list.size - i);
+            return new ListIterator<E>() {
+                // the add below moves the list's iterator with previous(), which leaves its last returned element
+                // set, so whether remove or set may be called is tracked here instead
+                private boolean canModify = false;
+
+                @Override
+                public boolean hasNext() {
+                    return iteratorRef.hasPrevious();
+                }
+
+                @Override
+                public E next() {
+                    E o = iteratorRef.previous();
+                    canModify = true;
+                    return o;
+                }
+
+                @Override
+                public boolean hasPrevious() {
+                    return iteratorRef.hasNext();
+                }
+
+                @Override
+                public E previous() {
+                    E o = iteratorRef.next();
+                    canModify = true;
+                    return o;
+                }
+
+                @Override
+                public int nextIndex() {
+                    return list.size - iteratorRef.nextIndex();
+                }
+
+                @Override
+                public int previousIndex() {
+                    return nextIndex() - 1;
+                }
+
+                @Override
+                public void remove() {
+                    if (!canModify) {
+                        throw new IllegalStateException("No last element returned");
+                    }
+                    iteratorRef.remove();
+                    canModify = false;
+                }
+
+                @Override
+                public void set(E o) {
+                    if (!canModify) {
+                        throw new IllegalStateException("No last element returned");
+                    }
+                    iteratorRef.set(o);
+                    canModify = false;
+                }
+
+                @Override
+                public void add(E o) {
+                    iteratorRef.add(o);
+                    iteratorRef.previous();     // the new element is behind the cursor of the view, ahead of the list's
+                    canModify = false;
+                }
+            };
+        }
+
+        @Override
+        public List<E> subList(int from, int to) {
+            return list.subList(list.size - to, list.size - from).reversed();
+        }
+
+        @Override
+        public void clear() {
+            list.clear();
+        }
+
+        @Override
+        public boolean retainAll(Collection<?> collection) {
+            return list.retainAll(collection);
+        }
+
+        @Override
+        public boolean removeAll(Collection<?> collection) {
+            return list.removeAll(collection);
+        }
+
+        @Override
+        public boolean removeIf(Predicate<? super E> filter) {
+            return list.removeIf(filter);
+        }
+
+        @Override
+        public void sort(Comparator<? super E> comparator) {
+            list.sort(Collections.reverseOrder(comparator));
+        }
+
+        @Override
+        public void parallelSort(Comparator<? super E> comparator) {
+            list.parallelSort(Collections.reverseOrder(comparator));
+        }
+
+        @Override
+        public Handle<E> addFirstHandle(E o) {
+            return list.addLastHandle(o);
+        }
+
+        @Override
+        public Handle<E> addLastHandle(E o) {
+            return list.addFirstHandle(o);
+        }
+
+        @Override
+        public Handle<E> addHandle(int i, E o) {
+            return list.addHandle(list.size - i, o);
+        }
+
+        @Override
+        public Handle<E> insertBefore(Handle<E> handle, E o) {
+            return list.insertAfter(handle, o);
+        }
+
+        @Override
+        public Handle<E> insertAfter(Handle<E> handle, E o) {
+            return list.insertBefore(handle, o);
+        }
+
+        @Override
+        public E removeHandle(Handle<E> handle) {
+            return list.removeHandle(handle);
+        }
+
+        @Override
+        public Handle<E> firstHandle() {
+            return list.lastHandle();
+        }
+
+        @Override
+        public Handle<E> lastHandle() {
+            return list.firstHandle();
+        }
+
+        @Override
+        public void moveToFront(Handle<E> handle) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void append(DoubleLinkedList<? extends E> other) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public DoubleLinkedList<E> splitAt(int i) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void transferRange(int from, int to, DoubleLinkedList<? super E> target, int at) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public DoubleLinkedListPublisher<E> publisher() {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Helper method which links a new Node into the list before a specified Node
+     * @param successor     the Node the new Node is inserted before, null to append to the end of the list
+     * @param o             the data to be stored in the new Node
+     * @return              the new Node
+     */
+    private Node<E> linkBefore(Node<E> successor, E o) {
+        Node<E> nodeRef = new Node<E>(o);
+        Node<E> predecessor = (successor == null) ? tail : successor.prev;
+        nodeRef.prev = predecessor;
+        nodeRef.next = successor;
+        if (predecessor == null) {  // adding to the head of the list
+            head = nodeRef;
+        } else {
+            predecessor.next = nodeRef;
+        }
+        if (successor == null) {    // adding to the tail of the list
+            tail = nodeRef;
+        } else {
+            successor.prev = nodeRef;
+        }
+        size++;
+        modCount++;
+        cursor = null;
+        if (nodeIndex != null) {
+            indexAdd(nodeRef);
+        }
+        if (publishing()) {
+            publisher.publish(DoubleLinkedListPublisher.Type.ADD, positionOf(nodeRef), o);
+        }
+        return nodeRef;
+    }
+
+    /**
+     * Helper method which unlinks a Node from the list, leaving it linked to itself so a stale Handle can be detected
+     * @param nodeRef   the Node to be removed
+     */
+    private void unlink(Node<E> nodeRef) {
+        int position = publishing() ? positionOf(nodeRef) : -1;
+        if (nodeRef.prev == null) {  // removing the head of the list
+            head = nodeRef.next;
+        } else {
+            nodeRef.prev.next = nodeRef.next;
+        }
+        if (nodeRef.next == null) {  // removing the tail of the list
+            tail = nodeRef.prev;
+        } else {
+            nodeRef.next.prev = nodeRef.prev;
+        }
+        nodeRef.next = nodeRef;
+        nodeRef.prev = nodeRef;
+        size--;
+        modCount++;
+        cursor = null;
+        if (nodeIndex != null) {
+            indexRemove(nodeRef);
+        }
+        if (position >= 0) {
+            publisher.publish(DoubleLinkedListPublisher.Type.REMOVE, position, nodeRef.data);
+        }
+    }
+
+    /**
+     * Helper method which records that a Handle is being given out
+     * @param nodeRef   the Node to be returned as a Handle, or null
+     * @return          nodeRef
+     */
+    private Handle<E> issue(Node<E> nodeRef) {
+        handlesIssued = true;
+        if (nodeRef != null) {
+            nodeRef.owner = this;
+        }
+        return nodeRef;
+    }
+
+    /**
+     * Helper method which unlinks a run of Nodes from the list by relinking the Nodes on either side of it, leaving
+     * the run linked together with null at both ends
+     * @param first     the first Node of the run
+     * @param last      the last Node of the run
+     * @param count     the number of Nodes in the run
+     */
+    private void detach(Node<E> first, Node<E> last, int count) {
+        int position = publishing() ? positionOf(first) : -1;
+        Node<E> predecessor = first.prev;
+        Node<E> successor = last.next;
+        if (predecessor == null) {  // removing from the head of the list
+            head = successor;
+        } else {
+            predecessor.next = successor;
+        }
+        if (successor == null) {    // removing up to the tail of the list
+            tail = predecessor;
+        } else {
+            successor.prev = predecessor;
+        }
+        first.prev = null;
+        last.next = null;
+        if (nodeIndex != null) {
+            if (count == size) {
+                nodeIndex.clear();
+            } else {
+                for (Node<E> nodeRef = first; nodeRef != null; nodeRef = nodeRef.next) {
+                    indexRemove(nodeRef);
+                }
+            }
+        }
+        size -= count;
+        modCount++;
+        cursor = null;
+        if (position >= 0) {
+            for (Node<E> nodeRef = first; nodeRef != null; nodeRef = nodeRef.next) {
+                publisher.publish(DoubleLinkedListPublisher.Type.REMOVE, position, nodeRef.data);
+            }
+        }
+    }
+
+    /**
+     * Helper method which links a run of Nodes into the list before a specified Node
+     * @param successor     the Node the run is inserted before, null to append to the end of the list
+     * @param first         the first Node of the run
+     * @param last          the last Node of the run
+     * @param count         the number of Nodes in the run
+     */
+    private void attachBefore(Node<E> successor, Node<E> first, Node<E> last, int count) {
+        Node<E> predecessor = (successor == null) ? tail : successor.prev;
+        first.prev = predecessor;
+        last.next = successor;
+        if (predecessor == null) {  // adding to the head of the list
+            head = first;
+        } else {
+            predecessor.next = first;
+        }
+        if (successor == null) {    // adding to the tail of the list
+            tail = last;
+        } else {
+            successor.prev = last;
+        }
+        size += count;
+        modCount++;
+        cursor = null;
+        if (nodeIndex != null) {
+            for (Node<E> nodeRef = first; nodeRef != successor; nodeRef = nodeRef.next) {
+                indexAdd(nodeRef);
+            }
+        }
+        if (publishing()) {
+            int position = positionOf(first);
+            for (Node<E> nodeRef = first; nodeRef != successor; nodeRef = nodeRef.next) {
+                publisher.publish(DoubleLinkedListPublisher.Type.ADD, position++, nodeRef.data);
+            }
+        }
+    }
+
+    /**
+     * Helper method which moves a run of Nodes from another list into this list before a specified Node. Handles to
+     * the moved elements follow them into this list, which takes a walk of the run if the other list has given any
+     * out.
+     * @param source        the list the run is taken from
+     * @param first         the first Node of the run
+     * @param last          the last Node of the run
+     * @param count         the number of Nodes in the run
+     * @param successor     the Node of this list the run is inserted before, null to append
+     */
+    private void moveRun(DoubleLinkedList<E> source, Node<E> first, Node<E> last, int count, Node<E> successor) {
+        source.detach(first, last, count);
+        if (source.handlesIssued) {
+            for (Node<E> nodeRef = first; nodeRef != null; nodeRef = nodeRef.next) {
+                nodeRef.owner = this;
+            }
+        }
+        attachBefore(successor, first, last, count);
+        handlesIssued |= source.handlesIssued;
+        if (source.size == 0) {
+            source.handlesIssued = false;
+        }
+    }
+
+    /**
+     * Helper method which unlinks a run of Nodes from the list by relinking the Nodes on either side of it. The
+     * removed Nodes are only visited afterwards if the hash index or outstanding Handles need to forget them.
+     * @param first     the first Node of the run
+     * @param last      the last Node of the run
+     * @param count     the number of Nodes in the run
+     */
+    private void unlinkRange(Node<E> first, Node<E> last, int count) {
+        detach(first, last, count);
+        if (handlesIssued) {
+            Node<E> nodeRef = first;
+            while (nodeRef != null) {
+                Node<E> nextRef = nodeRef.next;
+                nodeRef.next = nodeRef;
+                nodeRef.prev = nodeRef;
+                nodeRef = nextRef;
+            }
+        }
+    }
+
+    /**
+     * Helper method which checks that a Handle refers to a Node still in this list
+     * @param handle    a Handle returned by this list
+     * @return          the Node behind the Handle
+     */
+    @SuppressWarnings("unchecked")
+    private Node<E> linkedNode(Handle<E> handle) {
+        if (!(handle instanceof Node)) {
+            throw new IllegalArgumentException("Not a handle of a DoubleLinkedList");
+        }
+        Node<E> nodeRef = (Node<E>) handle;
+        if (nodeRef.owner != this) {
+            throw new IllegalArgumentException("Handle belongs to another list");
+        }
+        if (nodeRef.next == nodeRef) {
+            throw new IllegalStateException("Handle no longer in list");
+        }
+        return nodeRef;
+    }
+
+    /**
+     * Helper method which unlinks every Node whose data matches a predicate during a single traversal
+     * @param filter    returns true for the data to be removed
+     * @return          true if any Node was removed
+     */
+    private boolean removeMatching(Predicate<? super E> filter) {
+        boolean changed = false;
+        Node<E> nodeRef = head;
+        while (nodeRef != null) {
+            Node<E> nextRef = nodeRef.next;     // read before unlink links nodeRef to itself
+            if (filter.test(nodeRef.data)) {
+                unlink(nodeRef);
+                changed = true;
+            }
+            nodeRef = nextRef;
+        }
+        return changed;
+    }
+
+    /**
+     * Helper method which returns a collection with fast contains for bulk operations, copying a large collection
+     * that is not already a Set into a HashSet
+     * @param collection    the argument of the bulk operation
+     * @return              the collection itself or a HashSet of its elements
+     */
+    private static Collection<?> lookupOf(Collection<?> collection) {
+        if (collection.size() > HASH_THRESHOLD && !(collection instanceof Set)) {
+            return new HashSet<Object>(collection);
+        }
+        return collection;
+    }
+
+    /**
+     * Helper method which unlinks the head or tail Node and returns its data
+     * @param nodeRef   the head or tail of a non-empty list
+     * @return          the data of the removed Node
+     */
+    private E unlinkEnd(Node<E> nodeRef) {
+        E obj = nodeRef.data;
+        unlink(nodeRef);
+        return obj;
+    }
+
+    /**
+     * Helper method which replaces the data in a Node, keeping the hash index up to date
+     * @param nodeRef   the Node whose data is replaced
+     * @param o         the new data
+     */
+    private void replaceData(Node<E> nodeRef, E o) {
+        if (nodeIndex != null) {
+            indexRemove(nodeRef);
+            nodeRef.data = o;
+            indexAdd(nodeRef);
+        } else {
+            nodeRef.data = o;
+        }
+        if (publishing()) {
+            publisher.publish(DoubleLinkedListPublisher.Type.SET, positionOf(nodeRef), o);
+        }
+    }
+
+    /**
+     * Helper method which returns whether any subscriber is waiting for changes to this list
+     * @return      true if changes must be published
+     */
+    private boolean publishing() {
+        return (publisher != null && publisher.isActive());
+    }
+
+    /**
+     * Helper method which records a Node under its data in the hash index
+     * @param nodeRef   the Node to be recorded
+     */
+    @SuppressWarnings("unchecked")
+    private void indexAdd(Node<E> nodeRef) {
+        Object entry = nodeIndex.get(nodeRef.data);
+        if (entry == null) {
+            nodeIndex.put(nodeRef.data, nodeRef);
+        } else if (entry instanceof Node) {
+            Set<Node<E>> nodes = new HashSet<Node<E>>();
+            nodes.add((Node<E>) entry);
+            nodes.add(nodeRef);
+            nodeIndex.put(nodeRef.data, nodes);
+        } else {
+            ((Set<Node<E>>) entry).add(nodeRef);
+        }
+    }
+
+    /**
+     * Helper method which removes a Node from the hash index
+     * @param nodeRef   the Node to be forgotten
+     */
+    @SuppressWarnings("unchecked")
+    private void indexRemove(Node<E> nodeRef) {
+        Object entry = nodeIndex.get(nodeRef.data);
+        if (entry == nodeRef) {
+            nodeIndex.remove(nodeRef.data);
+        } else if (entry instanceof Set) {
+            Set<Node<E>> nodes = (Set<Node<E>>) entry;
+            nodes.remove(nodeRef);
+            if (nodes.size() == 1) {
+                nodeIndex.put(nodeRef.data, nodes.iterator().next());
+            }
+        }
+    }
+
+    /**
+     * Helper method which finds the Node holding the first or last occurrence of an element using the hash index
+     * @param o         the element to look for
+     * @param first     true for the first occurrence, false for the last
+     * @return          the Node found, or null if the list does not contain the element
+     */
+    @SuppressWarnings("unchecked")
+    private Node<E> indexedNode(Object o, boolean first) {
+        Object entry = nodeIndex.get(o);
+        if (entry == null || entry instanceof Node) {
+            return (Node<E>) entry;
+        }
+        Set<Node<E>> nodes = (Set<Node<E>>) entry;
+        Node<E> nodeRef = first ? head : tail;
+        while (!nodes.contains(nodeRef)) {
+            nodeRef = first ? nodeRef.next : nodeRef.prev;
+        }
+        return nodeRef;
+    }
+
+    /**
+     * Helper method which computes the position of a Node by walking toward both ends at once, stopping as soon as
+     * either end is reached
+     * @param nodeRef   a Node in this list
+     * @return          the index of the Node
+     */
+    private int positionOf(Node<E> nodeRef) {
+        Node<E> back = nodeRef;
+        Node<E> forward = nodeRef;
+        for (int steps = 0; ; steps++) {
+            if (back.prev == null) {
+                return steps;
+            }
+            if (forward.next == null) {
+                return size - 1 - steps;
+            }
+            back = back.prev;
+            forward = forward.next;
+        }
+    }
+
+    /**
+     * Helper method which finds the Node at a specified position, walking from whichever of head, tail or the cached
+     * cursor is closest, then caches the found Node as the new cursor so sequential positional access is O(1)
+     * @param i     the index of the Node to find, must be in the range [0, size)
+     * @return      the Node at position i
+     */
+    private Node<E> node(int i) {
+        Node<E> nodeRef = head;
+        int position = 0;
+        int distance = i;
+        if (size - 1 - i < distance) {
+            nodeRef = tail;
+            position = size - 1;
+            distance = size - 1 - i;
+        }
+        if (cursor != null && Math.abs(i - cursorIndex) < distance) {
+            nodeRef = cursor;
+            position = cursorIndex;
+        }
+        while (position < i) {
+            nodeRef = nodeRef.next;
+            position++;
+        }
+        while (position > i) {
+            nodeRef = nodeRef.prev;
+            position--;
+        }
+        cursor = nodeRef;
+        cursorIndex = i;
+        return nodeRef;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return (head == null && tail == null && size == 0);
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (nodeIndex != null) {
+            return nodeIndex.containsKey(o);
+        }
+        return (indexOf(o) != -1);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if(!(o instanceof LinkedList)) {
+            return false;
+        }
+        LinkedList<?> oListRef = (LinkedList<?>)o;
+        if(this.size() != oListRef.size()) {
+            return false;
+        }
+        ListIterator<?> oIterator = oListRef.listIterator();
+        ListIterator<E> thisIterator = this.listIterator();
+        for(int i = 0; i < size; i++) {
+            if(!(oIterator.next().equals(thisIterator.next()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (Node<E> nodeRef = head; nodeRef != null; nodeRef = nodeRef.next) {
+            result = 31 * result + Objects.hashCode(nodeRef.data);
+        }
+        return result;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new DoubleListIterator();
+    }
+
+    @Override
+    public Spliterator<E> spliterator() {
+        return new DoubleListSpliterator(head, size, modCount);
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] result = new Object[size];
+        int i = 0;
+        for (Node<E> nodeRef = head; nodeRef != null; nodeRef = nodeRef.next) {
+            result[i++] = nodeRef.data;
+        }
+        return result;
+    }
+
+    @Override
+    public boolean add(E o) {
+        linkBefore(null, o);
+        return true; // should always be true unless some unexpected error, which would stop program at the line above
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (nodeIndex != null) {
+            Node<E> nodeRef = indexedNode(o, true);
+            if (nodeRef == null) {
+                return false;
+            }
+            unlink(nodeRef);
+            return true;
+        }
+        int index = indexOf(o);
+        try {
+            remove(index);
+            return true;
+        }
+        catch(IndexOutOfBoundsException ioobe) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends E> collection) {
+        return addAll(size, collection);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public boolean addAll(int i, Collection<? extends E> collection) {
+        if (i < 0 || i > size) {
+            throw new IndexOutOfBoundsException("Invalid index " + i);
+        }
+        Object[] items = collection.toArray();   // snapshot, so adding a list to itself is safe
+        if (items.length == 0) {
+            return false;
+        }
+        // build the whole chain of new Nodes first, then splice it in with a single seek
+        Node<E> first = new Node<E>((E) items[0]);
+        Node<E> last = first;
+        for (int k = 1; k < items.length; k++) {
+            Node<E> nodeRef = new Node<E>((E) items[k]);
+            nodeRef.prev = last;
+            last.next = nodeRef;
+            last = nodeRef;
+        }
+        attachBefore((i == size) ? null : node(i), first, last, items.length);
+        return true;
+    }
+
+    @Override
+    public void addFirst(E o) {
+        linkBefore(head, o);
+    }
+
+    @Override
+    public void addLast(E o) {
+        linkBefore(null, o);
+    }
+
+    @Override
+    public boolean offerFirst(E o) {
+        linkBefore(head, o);
+        return true;
+    }
+
+    @Override
+    public boolean offerLast(E o) {
+        linkBefore(null, o);
+        return true;
+    }
+
+    @Override
+    public boolean offer(E o) {
+        linkBefore(null, o);
+        return true;
+    }
+
+    @Override
+    public void push(E o) {
+        linkBefore(head, o);
+    }
+
+    @Override
+    public E removeFirst() {
+        if (head == null) {
+            throw new NoSuchElementException("List is empty");
+        }
+        return unlinkEnd(head);
+    }
+
+    @Override
+    public E removeLast() {
+        if (tail == null) {
+            throw new NoSuchElementException("List is empty");
+        }
+        return unlinkEnd(tail);
+    }
+
+    @Override
+    public E remove() {
+        return removeFirst();
+    }
+
+    @Override
+    public E pop() {
+        return removeFirst();
+    }
+
+    @Override
+    public E pollFirst() {
+        return (head == null) ? null : unlinkEnd(head);
+    }
+
+    @Override
+    public E pollLast() {
+        return (tail == null) ? null : unlinkEnd(tail);
+    }
+
+    @Override
+    public E poll() {
+        return pollFirst();
+    }
+
+    @Override
+    public E getFirst() {
+        if (head == null) {
+            throw new NoSuchElementException("List is empty");
+        }
+        return head.data;
+    }
+
+    @Override
+    public E getLast() {
+        if (tail == null) {
+            throw new NoSuchElementException("List is empty");
+        }
+        return tail.data;
+    }
+
+    @Override
+    public E element() {
+        return getFirst();
+    }
+
+    @Override
+    public E peekFirst() {
+        return (head == null) ? null : head.data;
+    }
+
+    @Override
+    public E peekLast() {
+        return (tail == null) ? null : tail.data;
+    }
+
+    @Override
+    public E peek() {
+        return peekFirst();
+    }
+
+    @Override
+    public boolean removeFirstOccurrence(Object o) {
+        return remove(o);
+    }
+
+    @Override
+    public boolean removeLastOccurrence(Object o) {
+        Node<E> nodeRef;
+        if (nodeIndex != null) {
+            nodeRef = indexedNode(o, false);
+        } else {
+            nodeRef = tail;
+            while (nodeRef != null && !(o == null ? nodeRef.data == null : o.equals(nodeRef.data))) {
+                nodeRef = nodeRef.prev;
+            }
+        }
+        if (nodeRef == null) {
+            return false;
+        }
+        unlink(nodeRef);
+        return true;
+    }
+
+    @Override
+    public Iterator<E> descendingIterator() {
+        return new DescendingIterator();
+    }
+
+    /**
+     * Returns a view of this list in reverse order, through which changes are made to this list and in which changes
+     * to this list are seen. List and Deque both declare reversed, so the view is a DoubleLinkedList, but it does not
+     * support the splicing methods, moveToFront or publisher.
+     * @return      a view from the tail to the head of this list
+     */
+    @Override
+    public DoubleLinkedList<E> reversed() {
+        return new ReversedView<E>(this);
+    }
+
+    /**
+     * Moves every element of another list to the end of this list by relinking its Nodes, leaving the other list
+     * empty. This takes O(1) time unless either list is indexed, in which case the moved elements are re-indexed, or the
+     * other list has given out Handles, which are then moved to this list.
+     * @param other     the list whose elements are taken, must not be this list
+     */
+    @SuppressWarnings("unchecked")
+    public void append(DoubleLinkedList<? extends E> other) {
+        if (other == this) {
+            throw new IllegalArgumentException("Cannot append a list to itself");
+        }
+        if (other instanceof ReversedView) {
+            throw new IllegalArgumentException("Cannot append a reversed view");
+        }
+        if (other.size > 0) {
+            DoubleLinkedList<E> source = (DoubleLinkedList<E>) other;
+            moveRun(source, source.head, source.tail, source.size, null);
+        }
+    }
+
+    /**
+     * Splits this list in two by relinking its Nodes, keeping the elements before index i and returning the rest in a
+     * new list, which is indexed if this list is. This takes one seek plus O(1) time unless the list is indexed.
+     * @param i     the index of the first element to move to the new list
+     * @return      a new list of the elements from index i to the end
+     */
+    public DoubleLinkedList<E> splitAt(int i) {
+        if (i < 0 || i > size) {
+            throw new IndexOutOfBoundsException("Invalid index " + i);
+        }
+        DoubleLinkedList<E> result = new DoubleLinkedList<E>(nodeIndex != null);
+        if (i < size) {
+            result.moveRun(this, node(i), tail, size - i, null);
+        }
+        return result;
+    }
+
+    /**
+     * Moves the elements from index from up to but not including index to into another list by relinking their
+     * Nodes, so that the first of them ends up at index at of the other list. This takes a seek for each end of the
+     * range and one in the other list, plus O(1) time unless either list is indexed.
+     * @param from      the index of the first element to move
+     * @param to        the index after the last element to move
+     * @param target    the list the elements are moved into, must not be this list
+     * @param at        the index in target the moved elements are inserted at
+     */
+    @SuppressWarnings("unchecked")
+    public void transferRange(int from, int to, DoubleLinkedList<? super E> target, int at) {
+        if (target == this) {
+            throw new IllegalArgumentException("Cannot transfer a range within one list");
+        }
+        if (target instanceof ReversedView) {
+            throw new IllegalArgumentException("Cannot transfer a range into a reversed view");
+        }
+        if (from < 0 || to > size || from > to) {
+            throw new IndexOutOfBoundsException("Invalid range " + from + " to " + to);
+        }
+        if (at < 0 || at > target.size) {
+            throw new IndexOutOfBoundsException("Invalid index " + at);
+        }
+        if (from < to) {
+            DoubleLinkedList<E> destination = (DoubleLinkedList<E>) target;
+            Node<E> first = node(from);
+            Node<E> last = (to - from == 1) ? first : node(to - 1);
+            Node<E> successor = (at == destination.size) ? null : destination.node(at);
+            destination.moveRun(this, first, last, to - from, successor);
+        }
+    }
+
+    /**
+     * Inserts an element at the head of this list
+     * @param o     the element to be added
+     * @return      a Handle to the new element
+     */
+    public Handle<E> addFirstHandle(E o) {
+        return issue(linkBefore(head, o));
+    }
+
+    /**
+     * Appends an element to the tail of this list
+     * @param o     the element to be added
+     * @return      a Handle to the new element
+     */
+    public Handle<E> addLastHandle(E o) {
+        return issue(linkBefore(null, o));
+    }
+
+    /**
+     * Inserts an element at a specified position in this list
+     * @param i     the index the element will occupy
+     * @param o     the element to be added
+     * @return      a Handle to the new element
+     */
+    public Handle<E> addHandle(int i, E o) {
+        if (i < 0 || i > size) {
+            throw new IndexOutOfBoundsException("Invalid index " + i);
+        }
+        return issue(linkBefore((i == size) ? null : node(i), o));
+    }
+
+    /**
+     * Inserts an element directly before the element a Handle refers to, in O(1)
+     * @param handle    a Handle to an element still in this list
+     * @param o         the element to be added
+     * @return          a Handle to the new element
+     */
+    public Handle<E> insertBefore(Handle<E> handle, E o) {
+        return issue(linkBefore(linkedNode(handle), o));
+    }
+
+    /**
+     * Inserts an element directly after the element a Handle refers to, in O(1)
+     * @param handle    a Handle to an element still in this list
+     * @param o         the element to be added
+     * @return          a Handle to the new element
+     */
+    public Handle<E> insertAfter(Handle<E> handle, E o) {
+        return issue(linkBefore(linkedNode(handle).next, o));
+    }
+
+    /**
+     * Removes the element a Handle refers to, in O(1). The Handle is no longer valid afterwards.
+     * @param handle    a Handle to an element still in this list
+     * @return          the element removed
+     */
+    public E removeHandle(Handle<E> handle) {
+        Node<E> nodeRef = linkedNode(handle);
+        unlink(nodeRef);
+        return nodeRef.data;
+    }
+
+    /**
+     * Returns a Handle to the element at the head of this list
+     * @return      a Handle to the first element, or null if the list is empty
+     */
+    public Handle<E> firstHandle() {
+        return issue(head);
+    }
+
+    /**
+     * Returns a Handle to the element at the tail of this list
+     * @return      a Handle to the last element, or null if the list is empty
+     */
+    public Handle<E> lastHandle() {
+        return issue(tail);
+    }
+
+    /**
+     * Moves the element a Handle refers to to the head of this list by relinking its Node, in O(1) and without
+     * allocating. The Handle stays valid.
+     * @param handle    a Handle to an element still in this list
+     */
+    public void moveToFront(Handle<E> handle) {
+        Node<E> nodeRef = linkedNode(handle);
+        if (nodeRef == head) {
+            return;
+        }
+        int position = publishing() ? positionOf(nodeRef) : -1;
+        nodeRef.prev.next = nodeRef.next;
+        if (nodeRef.next == null) {  // moving the tail of the list
+            tail = nodeRef.prev;
+        } else {
+            nodeRef.next.prev = nodeRef.prev;
+        }
+        nodeRef.prev = null;
+        nodeRef.next = head;
+        head.prev = nodeRef;
+        head = nodeRef;
+        modCount++;
+        cursor = null;
+        if (position >= 0) {
+            publisher.publish(DoubleLinkedListPublisher.Type.REMOVE, position, nodeRef.data);
+            publisher.publish(DoubleLinkedListPublisher.Type.ADD, 0, nodeRef.data);
+        }
+    }
+
+    /**
+     * Removes every element from this list. If any Handles have been given out, each Node is left linked to itself so
+     * that they become invalid, which makes clear take time proportional to the size of the list.
+     */
+    @Override
+    public void clear() {
+        if (handlesIssued) {
+            Node<E> nodeRef = head;
+            while (nodeRef != null) {
+                Node<E> nextRef = nodeRef.next;
+                nodeRef.next = nodeRef;
+                nodeRef.prev = nodeRef;
+                nodeRef = nextRef;
+            }
+            handlesIssued = false;
+        }
+        head = null;
+        tail = null;
+        size = 0;
+        modCount++;
+        cursor = null;
+        if (nodeIndex != null) {
+            nodeIndex.clear();
+        }
+        if (publishing()) {
+            publisher.publish(DoubleLinkedListPublisher.Type.CLEAR, -1, null);
+        }
+    }
+
+    /**
+     * Returns a Flow.Publisher which sends each new subscriber this list's elements and then every change made to the
+     * list, as fast as the subscriber requests them. Changes are worked out only while someone is subscribed. A
+     * subscriber which falls a whole buffer behind blocks the thread modifying this list until it catches up.
+     * @return      the publisher of this list's changes, a new one if the last was closed
+     */
+    public DoubleLinkedListPublisher<E> publisher() {
+        if (publisher == null || publisher.isClosed()) {
+            publisher = new DoubleLinkedListPublisher<E>(this);
+        }
+        return publisher;
+    }
+
+    @Override
+    public E get(int i) {
+        if(i < 0 || i >= size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        return node(i).data;
+    }
+
+    @Override
+    public E set(int i, E o) {
+        if(i < 0 || i >= size()) {
+            throw new IndexOutOfBoundsException();
+        }
+        Node<E> nodeRef = node(i);
+        E obj = nodeRef.data;
+        replaceData(nodeRef, o);
+        return obj;
+    }
+
+    @Override
+    public void add(int i, E obj) {
+        listIterator(i).add(obj);
+    }
+
+    @Override
+    public E remove(int i) {
+        ListIterator<E> iteratorRef = listIterator(i);
+        if(!iteratorRef.hasNext()) {
+            throw new IndexOutOfBoundsException();
+        }
+        E obj = iteratorRef.next();
+        iteratorRef.remove();
+        return obj;
+    }
+
+    @Override
+    public int indexOf(Object o) {
+        if (nodeIndex != null) {
+            Node<E> nodeRef = indexedNode(o, true);
+            return (nodeRef == null) ? -1 : positionOf(nodeRef);
+        }
+        ListIterator<E> iteratorRef = listIterator();
+        while(iteratorRef.hasNext()) {
+            int num = iteratorRef.nextIndex();
+            if(Objects.equals(o, iteratorRef.next())) {
+                return(num);
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int lastIndexOf(Object o) {
+        if (nodeIndex != null) {
+            Node<E> nodeRef = indexedNode(o, false);
+            return (nodeRef == null) ? -1 : positionOf(nodeRef);
+        }
+        ListIterator<E> iteratorRef = listIterator();
+        int indexReturn = -1;
+        while(iteratorRef.hasNext()) {
+            int num = iteratorRef.nextIndex();
+            if(Objects.equals(o, iteratorRef.next())) {
+                indexReturn = num;
+            }
+        }
+        return indexReturn;
+    }
+
+    @Override
+    public ListIterator<E> listIterator() {
+        return new DoubleListIterator();
+    }
+
+    @Override
+    public ListIterator<E> listIterator(int i) {
+        return new DoubleListIterator(i);
+    }
+
+    /**
+     * Returns a view of the elements from index i up to but not including index i1. Reads and writes pass through to
+     * this list, and clearing the view unlinks the whole range at once. The view throws
+     * ConcurrentModificationException once this list is structurally modified other than through the view.
+     * @param i     the index of the first element of the view
+     * @param i1    the index after the last element of the view
+     * @return      a live List view of the range
+     */
+    @Override
+    public List<E> subList(int i, int i1) {
+        return new SubList(null, i, i1);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> collection) {
+        final Collection<?> lookup = lookupOf(collection);
+        return removeMatching(new Predicate<E>() {
+            @Override
+            public boolean test(E o) {
+                return !lookup.contains(o);
+            }
+        });
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> collection) {
+        final Collection<?> lookup = lookupOf(collection);
+        return removeMatching(new Predicate<E>() {
+            @Override
+            public boolean test(E o) {
+                return lookup.contains(o);
+            }
+        });
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        if (filter == null) {
+            throw new NullPointerException();
+        }
+        return removeMatching(filter);
+    }
+
+    /**
+     * Returns whether this list contains every element of a collection. Unless the list is indexed, a large
+     * collection is checked against a HashSet of this list's elements built in one traversal.
+     * @param collection    the elements to look for
+     * @return              true if every element is in this list
+     */
+    @Override
+    public boolean containsAll(Collection<?> collection) {
+        Collection<?> elements = this;
+        if (nodeIndex == null && collection.size() > HASH_THRESHOLD) {
+            Set<Object> copy = new HashSet<Object>();
+            for (Node<E> nodeRef = head; nodeRef != null; nodeRef = nodeRef.next) {
+                copy.add(nodeRef.data);
+            }
+            elements = copy;
+        }
+        for (Object o : collection) {
+            if (!elements.contains(o)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T[] toArray(T[] array) {
+        if (array.length < size) {
+            array = (T[]) Array.newInstance(array.getClass().getComponentType(), size);
+        }
+        Object[] result = array;    // stores through Object[] so a mismatched element type raises ArrayStoreException
+        int i = 0;
+        for (Node<E> nodeRef = head; nodeRef != null; nodeRef = nodeRef.next) {
+            result[i++] = nodeRef.data;
+        }
+        if (array.length > size) {
+            array[size] = null;
+        }
+        return array;
+    }
+
+    /**
+     * Sorts this list with a stable bottom-up merge sort which relinks the Nodes rather than copying the elements, so
+     * it needs no array and Handles stay attached to their elements. If the comparator throws, the list is left in its
+     * original order.
+     * @param comparator    the order to sort by, or null for the elements' natural ordering
+     */
+    @Override
+    public void sort(Comparator<? super E> comparator) {
+        if (size < 2) {
+            modCount++;
+            return;
+        }
+        Comparator<? super E> order = orderOf(comparator);
+        Node<E> first;
+        boolean sorted = false;
+        try {
+            first = mergeSort(head, order);
+            sorted = true;
+        } finally {
+            if (!sorted) {      // whatever the comparator threw, put the list back before it propagates
+                restoreNext();
+            }
+        }
+        relinkSorted(first);
+    }
+
+    /**
+     * Sorts this list like sort, but for lists of at least PARALLEL_THRESHOLD elements sorts runs of the list on the
+     * common ForkJoinPool and merges them as they finish. The comparator must be safe to call from several threads.
+     * @param comparator    the order to sort by, or null for the elements' natural ordering
+     */
+    public void parallelSort(Comparator<? super E> comparator) {
+        if (size < PARALLEL_THRESHOLD || ForkJoinPool.getCommonPoolParallelism() < 2) {
+            sort(comparator);
+            return;
+        }
+        Node<E> first;
+        boolean sorted = false;
+        try {
+            first = ForkJoinPool.commonPool().invoke(new SortTask<E>(head, size, orderOf(comparator)));
+            sorted = true;
+        } finally {
+            if (!sorted) {
+                restoreNext();
+            }
+        }
+        relinkSorted(first);
+    }
+
+    /**
+     * Helper method which returns a comparator, using the elements' natural ordering in place of null
+     * @param comparator    the comparator given to sort, or null
+     * @return              the comparator to sort with
+     */
+    @SuppressWarnings("unchecked")
+    private static <E> Comparator<? super E> orderOf(Comparator<? super E> comparator) {
+        return (comparator != null) ? comparator : (Comparator<? super E>) Comparator.naturalOrder();
+    }
+
+    /**
+     * Helper method which sorts a null-terminated chain of Nodes by their next references only, merging sorted runs
+     * of width 1, 2, 4 and so on until one run remains. The prev references are left untouched.
+     * @param first         the first Node of the chain
+     * @param comparator    the order to sort by
+     * @return              the first Node of the sorted chain
+     */
+    private static <E> Node<E> mergeSort(Node<E> first, Comparator<? super E> comparator) {
+        Node<E> sentinel = new Node<E>(null);
+        sentinel.next = first;
+        for (int width = 1; ; width *= 2) {
+            Node<E> remaining = sentinel.next;
+            Node<E> last = sentinel;
+            int merges = 0;
+            while (remaining != null) {
+                Node<E> left = remaining;
+                Node<E> right = cut(left, width);
+                remaining = cut(right, width);
+                last = merge(last, left, right, comparator);
+                merges++;
+            }
+            if (merges <= 1) {
+                return sentinel.next;
+            }
+        }
+    }
+
+    /**
+     * Helper method which ends a chain after a specified number of Nodes
+     * @param first     the first Node of the chain, or null
+     * @param count     the number of Nodes to keep
+     * @return          the first Node after those kept, or null if the chain was no longer than count
+     */
+    private static <E> Node<E> cut(Node<E> first, int count) {
+        if (first == null) {
+            return null;
+        }
+        Node<E> nodeRef = first;
+        for (int i = 1; i < count && nodeRef.next != null; i++) {
+            nodeRef = nodeRef.next;
+        }
+        Node<E> rest = nodeRef.next;
+        nodeRef.next = null;
+        return rest;
+    }
+
+    /**
+     * Helper method which merges two sorted null-terminated chains after a specified Node, taking from the left chain
+     * when elements compare equal so that the sort is stable
+     * @param last          the Node the merged chain is linked after
+     * @param left          the first Node of the earlier chain
+     * @param right         the first Node of the later chain, or null
+     * @param comparator    the order to sort by
+     * @return              the last Node of the merged chain
+     */
+    private static <E> Node<E> merge(Node<E> last, Node<E> left, Node<E> right, Comparator<? super E> comparator) {
+        while (left != null && right != null) {
+            if (comparator.compare(left.data, right.data) <= 0) {
+                last.next = left;
+                left = left.next;
+            } else {
+                last.next = right;
+                right = right.next;
+            }
+            last = last.next;
+        }
+        last.next = (left != null) ? left : right;
+        while (last.next != null) {
+            last = last.next;
+        }
+        return last;
+    }
+
+    /**
+     * Helper method which puts back the next references from the prev references, which sorting leaves untouched,
+     * after a comparator has thrown part way through a sort
+     */
+    private void restoreNext() {
+        tail.next = null;
+        for (Node<E> nodeRef = tail; nodeRef.prev != null; nodeRef = nodeRef.prev) {
+            nodeRef.prev.next = nodeRef;
+        }
+    }
+
+    /**
+     * Helper method which makes a sorted chain the contents of this list, rebuilding the prev references, head and
+     * tail, and publishing the new order as a CLEAR followed by an ADD for each element
+     * @param first     the first Node of the sorted chain
+     */
+    private void relinkSorted(Node<E> first) {
+        Node<E> previous = null;
+        for (Node<E> nodeRef = first; nodeRef != null; nodeRef = nodeRef.next) {
+            nodeRef.prev = previous;
+            previous = nodeRef;
+        }
+        head = first;
+        tail = previous;
+        modCount++;
+        cursor = null;
+        if (publishing()) {
+            publisher.publish(DoubleLinkedListPublisher.Type.CLEAR, -1, null);
+            int position = 0;
+            for (Node<E> nodeRef = head; nodeRef != null; nodeRef = nodeRef.next) {
+                publisher.publish(DoubleLinkedListPublisher.Type.ADD, position++, nodeRef.data);
+            }
+        }
+    }
+
+    /**
+     * An inner class for sorting a chain of Nodes on a ForkJoinPool, which splits the chain in half until the halves
+     * are short enough to sort sequentially and then merges the sorted halves
+     * @param <E>   generic type of the data stored in the Nodes
+     */
+    private static class SortTask<E> extends RecursiveTask<Node<E>> {
+        private static final long serialVersionUID = 1L;    // ForkJoinTask is Serializable, though tasks never are
+
+        private final transient Node<E> first;
+        private final int length;
+        private final transient Comparator<? super E> comparator;
+
+        /**
+         * Constructor that creates a SortTask instance
+         * @param first         the first Node of the chain
+         * @param length        the number of Nodes in the chain, which must be ended at that length by the caller
+         *                      or be the end of the list
+         * @param comparator    the order to sort by
+         */
+        private SortTask(Node<E> first, int length, Comparator<? super E> comparator) {
+            this.first = first;
+            this.length = length;
+            this.comparator = comparator;
+        }
+
+        @Override
+        protected Node<E> compute() {
+            if (length <= PARALLEL_GRAIN) {
+                return mergeSort(first, comparator);
+            }
+            int half = length / 2;
+            Node<E> middle = cut(first, half);
+            SortTask<E> leftTask = new SortTask<E>(first, half, comparator);
+            leftTask.fork();
+            Node<E> right;
+            boolean sorted = false;
+            try {
+                right = new SortTask<E>(middle, length - half, comparator).compute();
+                sorted = true;
+            } finally {
+                if (!sorted) {
+                    leftTask.quietlyJoin();     // the caller restores the list, so nothing may still be relinking it
+                }
+            }
+            Node<E> left = leftTask.join();
+            Node<E> sentinel = new Node<E>(null);
+            merge(sentinel, left, right, comparator);
+            return sentinel.next;
+        }
     }
 
 }
@@ -0,0 +1,184 @@
+package edu.miracosta.cs113;
+import java.util.*;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SubmissionPublisher;
+
+/**
+ * DoubleLinkedListPublisher.java : A Flow.Publisher of the changes made to a DoubleLinkedList. Each new subscriber is
+ * first sent the list's current elements as ADD changes, and then a Change for every later modification, so it can
+ * keep its own copy of the list up to date without re-reading it.
+ *
+ * Every subscriber has its own SubmissionPublisher with a bounded buffer, and changes are delivered on the executor
+ * only as the subscriber requests them. When a subscriber's buffer is full, the thread modifying the list blocks until
+ * that subscriber catches up, so a slow subscriber slows the writer instead of letting changes pile up. Subscribing
+ * and modifying the list must happen on the same thread, as DoubleLinkedList is not thread-safe; subscribers receive
+ * the elements in the changes and should not read the list themselves.
+ *
+ * @param <E>   generic type of the list's elements
+ * @see DoubleLinkedList#publisher()
+ */
+public class DoubleLinkedListPublisher<E> implements Flow.Publisher<DoubleLinkedListPublisher.Change<E>>, AutoCloseable {
+    /**
+     * The kinds of change made to a list
+     */
+    public enum Type {
+        ADD,        // element inserted at index
+        REMOVE,     // element removed from index
+        SET,        // element at index replaced by a new element
+        CLEAR       // every element removed; index is -1 and element is null
+    }
+
+    /**
+     * An immutable description of one change made to a list
+     * @param <E>   generic type of the list's elements
+     */
+    public static final class Change<E> {
+        private final Type type;
+        private final int index;
+        private final E element;
+
+        /**
+         * Constructor that creates a Change instance
+         * @param type      the kind of change
+         * @param index     the position of the change, as the list stood just after an ADD or SET and just before a
+         *                  REMOVE
+         * @param element   the element added, removed or set
+         */
+        Change(Type type, int index, E element) {
+            this.type = type;
+            this.index = index;
+            this.element = element;
+        }
+
+        /**
+         * Returns the kind of change
+         * @return      ADD, REMOVE, SET or CLEAR
+         */
+        public Type type() {
+            return type;
+        }
+
+        /**
+         * Returns the position of the change, as the list stood just after an ADD or SET and just before a REMOVE
+         * @return      the index of the element changed, or -1 for a CLEAR
+         */
+        public int index() {
+            return index;
+        }
+
+        /**
+         * Returns the element the change concerns
+         * @return      the element added, removed or set, or null for a CLEAR
+         */
+        public E element() {
+            return element;
+        }
+
+        @Override
+        public String toString() {
+            return type + " " + index + " " + element;
+        }
+    }
+
+    // data fields
+    private final Iterable<E> source;
+    private final Executor executor;
+    private final int bufferCapacity;
+    private final List<SubmissionPublisher<Change<E>>> channels;    // one per subscriber
+    private boolean closed;
+
+    /**
+     * Constructor that creates a publisher for a list, delivering on the common ForkJoinPool with the default Flow
+     * buffer size
+     * @param source    the list whose elements are sent to new subscribers
+     */
+    DoubleLinkedListPublisher(Iterable<E> source) {
+        this(source, ForkJoinPool.commonPool(), Flow.defaultBufferSize());
+    }
+
+    /**
+     * Constructor that creates a publisher for a list
+     * @param source            the list whose elements are sent to new subscribers
+     * @param executor          runs the delivery of changes to subscribers
+     * @param bufferCapacity    the number of changes buffered for each subscriber before the writer blocks
+     */
+    DoubleLinkedListPublisher(Iterable<E> source, Executor executor, int bufferCapacity) {
+        this.source = source;
+        this.executor = executor;
+        this.bufferCapacity = bufferCapacity;
+        channels = new ArrayList<SubmissionPublisher<Change<E>>>();
+        closed = false;
+    }
+
+    /**
+     * Subscribes to the list's changes, sending its current elements first. This blocks while the subscriber's buffer
+     * is full, so a large list is only sent as fast as the subscriber requests it.
+     * @param subscriber    the subscriber
+     */
+    @Override
+    public void subscribe(Flow.Subscriber<? super Change<E>> subscriber) {
+        SubmissionPublisher<Change<E>> channel = new SubmissionPublisher<Change<E>>(executor, bufferCapacity);
+        channel.subscribe(subscriber);
+        if (closed) {
+            channel.close();
+            return;
+        }
+        int i = 0;
+        for (E o : source) {
+            channel.submit(new Change<E>(Type.ADD, i++, o));
+        }
+        channels.add(channel);
+    }
+
+    /**
+     * Returns whether any subscriber may still want changes, so the list can skip working out changes nobody reads
+     * @return      true if there are subscribers
+     */
+    boolean isActive() {
+        return !channels.isEmpty();
+    }
+
+    /**
+     * Sends a change to every subscriber, blocking while any subscriber's buffer is full, and drops subscribers which
+     * have cancelled
+     * @param type      the kind of change
+     * @param index     the position of the change
+     * @param element   the element added, removed or set
+     */
+    void publish(Type type, int index, E element) {
+        Change<E> change = new Change<E>(type, index, element);
+        Iterator<SubmissionPublisher<Change<E>>> iteratorRef = channels.iterator();
+        while (iteratorRef.hasNext()) {
+            SubmissionPublisher<Change<E>> channel = iteratorRef.next();
+            if (channel.hasSubscribers()) {
+                channel.submit(change);
+            } else {
+                channel.close();
+                iteratorRef.remove();
+            }
+        }
+    }
+
+    /**
+     * Completes every subscription once its buffered changes have been delivered. Later subscribers are completed
+     * straight away.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (SubmissionPublisher<Change<E>> channel : channels) {
+            channel.close();
+        }
+        channels.clear();
+    }
+
+    /**
+     * Returns whether close() has been called
+     * @return      true if this publisher has been closed
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+}
@@ -0,0 +1,487 @@
+package edu.miracosta.cs113;
+import java.util.*;
+
+/**
+ * LongDoubleLinkedList.java : A double linked list of long values which avoids boxing. Nodes are slots in parallel
+ * arrays of values and prev/next slot indices rather than objects, and slots freed by removal are recycled.
+ *
+ * @see DoubleLinkedList
+ */
+public class LongDoubleLinkedList {
+    private static final int NIL = -1;              // slot index standing in for a null reference
+    private static final int DEFAULT_CAPACITY = 8;
+
+    // data fields
+    private long[] values;
+    private int[] next;
+    private int[] prev;
+    private int head;
+    private int tail;
+    private int size;
+    private int freeHead;       // first slot of the chain of recycled slots, linked through next
+    private int used;           // number of slots ever handed out, slots at or above this have never been used
+    private int modCount;
+
+    /**
+     *  Default constructor that creates an empty LongDoubleLinkedList
+     */
+    public LongDoubleLinkedList() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructor that creates an empty LongDoubleLinkedList with room for a specified number of values before its
+     * arrays need to grow
+     * @param capacity  the initial number of slots
+     */
+    public LongDoubleLinkedList(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("Invalid capacity " + capacity);
+        }
+        values = new long[capacity];
+        next = new int[capacity];
+        prev = new int[capacity];
+        head = NIL;
+        tail = NIL;
+        size = 0;
+        freeHead = NIL;
+        used = 0;
+    }
+
+    /**
+     * An inner class for creating a list iterator which can traverse through the slots in LongDoubleLinkedList. It
+     * follows the ListIterator contract with long in place of the element type.
+     */
+    public class LongListIterator implements PrimitiveIterator.OfLong {
+        // data fields
+        private int nextItem;
+        private int lastItemReturned;
+        private int index;
+        private int expectedModCount;
+
+        /**
+         * Constructor which sets up a list iterator at a specified position
+         * @param i     the index position that the iterator will begin at
+         */
+        private LongListIterator(int i) {
+            if (i < 0 || i > size) {
+                throw new IndexOutOfBoundsException("Invalid index " + i);
+            }
+            lastItemReturned = NIL;
+            index = i;
+            nextItem = (i == size) ? NIL : node(i);
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return (index < size);
+        }
+
+        @Override
+        public long nextLong() {
+            checkForComodification();
+            if(!hasNext()) {
+                throw new NoSuchElementException("No next element");
+            }
+            lastItemReturned = nextItem;
+            nextItem = next[nextItem];
+            index++;
+            return values[lastItemReturned];
+        }
+
+        /**
+         * Returns true if this iterator has more values when traversing the list in the reverse direction
+         * @return      true if previousLong() would return a value
+         */
+        public boolean hasPrevious() {
+            return (index > 0);
+        }
+
+        /**
+         * Returns the previous value in the list and moves the cursor position backwards
+         * @return      the previous value
+         */
+        public long previousLong() {
+            checkForComodification();
+            if(!hasPrevious()) {
+                throw new NoSuchElementException("No previous element");
+            }
+            nextItem = (nextItem == NIL) ? tail : prev[nextItem];
+            lastItemReturned = nextItem;
+            index--;
+            return values[lastItemReturned];
+        }
+
+        /**
+         * Returns the index of the value that would be returned by a subsequent call to nextLong()
+         * @return      the index of the next value, or size at the end of the list
+         */
+        public int nextIndex() {
+            return index;
+        }
+
+        /**
+         * Returns the index of the value that would be returned by a subsequent call to previousLong()
+         * @return      the index of the previous value, or -1 at the beginning of the list
+         */
+        public int previousIndex() {
+            return index - 1;
+        }
+
+        /**
+         * Removes the last value returned by nextLong() or previousLong()
+         */
+        @Override
+        public void remove() {
+            if(lastItemReturned == NIL) {
+                throw new IllegalStateException("No last element returned");
+            }
+            checkForComodification();
+            if (nextItem == lastItemReturned) {     // last move was previousLong()
+                nextItem = next[lastItemReturned];
+            } else {
+                index--;
+            }
+            unlink(lastItemReturned);
+            lastItemReturned = NIL;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Replaces the last value returned by nextLong() or previousLong()
+         * @param value     the replacement value
+         */
+        public void set(long value) {
+            if(lastItemReturned == NIL) {
+                throw new IllegalStateException("No last element returned");
+            }
+            checkForComodification();
+            values[lastItemReturned] = value;
+        }
+
+        /**
+         * Inserts a value immediately before the value that would be returned by nextLong()
+         * @param value     the value to be inserted
+         */
+        public void add(long value) {
+            checkForComodification();
+            linkBefore(nextItem, value);
+            index++;
+            lastItemReturned = NIL;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Helper method which throws if the list was structurally modified other than through this iterator
+         */
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Helper method which finds the slot at a specified position, walking from whichever end of the list is closer
+     * @param i     the index of the slot to find, must be in the range [0, size)
+     * @return      the slot at position i
+     */
+    private int node(int i) {
+        int slot;
+        if (i < (size >> 1)) {
+            slot = head;
+            for (int k = 0; k < i; k++) {
+                slot = next[slot];
+            }
+        } else {
+            slot = tail;
+            for (int k = size - 1; k > i; k--) {
+                slot = prev[slot];
+            }
+        }
+        return slot;
+    }
+
+    /**
+     * Helper method which takes a slot from the free chain, or a never used slot if the free chain is empty, growing
+     * the arrays when every slot is in use
+     * @return      the slot now reserved for a new value
+     */
+    private int allocate() {
+        if (freeHead != NIL) {
+            int slot = freeHead;
+            freeHead = next[slot];
+            return slot;
+        }
+        if (used == values.length) {
+            int capacity = Math.max(DEFAULT_CAPACITY, values.length << 1);
+            values = Arrays.copyOf(values, capacity);
+            next = Arrays.copyOf(next, capacity);
+            prev = Arrays.copyOf(prev, capacity);
+        }
+        return used++;
+    }
+
+    /**
+     * Helper method which links a new value into the list before a specified slot
+     * @param successor     the slot the value is inserted before, NIL to append to the end of the list
+     * @param value         the value to be inserted
+     */
+    private void linkBefore(int successor, long value) {
+        int slot = allocate();
+        int predecessor = (successor == NIL) ? tail : prev[successor];
+        values[slot] = value;
+        prev[slot] = predecessor;
+        next[slot] = successor;
+        if (predecessor == NIL) {
+            head = slot;
+        } else {
+            next[predecessor] = slot;
+        }
+        if (successor == NIL) {
+            tail = slot;
+        } else {
+            prev[successor] = slot;
+        }
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Helper method which unlinks a slot from the list and returns it to the free chain
+     * @param slot  the slot to be removed
+     * @return      the value that was stored in the slot
+     */
+    private long unlink(int slot) {
+        if (prev[slot] == NIL) {
+            head = next[slot];
+        } else {
+            next[prev[slot]] = next[slot];
+        }
+        if (next[slot] == NIL) {
+            tail = prev[slot];
+        } else {
+            prev[next[slot]] = prev[slot];
+        }
+        next[slot] = freeHead;
+        freeHead = slot;
+        size--;
+        modCount++;
+        return values[slot];
+    }
+
+    /**
+     * Returns the number of values in this list
+     * @return      the size of the list
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if this list contains no values
+     * @return      true if the size of the list is 0
+     */
+    public boolean isEmpty() {
+        return (size == 0);
+    }
+
+    /**
+     * Appends a value to the end of this list
+     * @param value     the value to be added
+     * @return          true, as the list always changes
+     */
+    public boolean add(long value) {
+        linkBefore(NIL, value);
+        return true;
+    }
+
+    /**
+     * Inserts a value at a specified position in this list
+     * @param i         the index the value will occupy
+     * @param value     the value to be added
+     */
+    public void add(int i, long value) {
+        if (i < 0 || i > size) {
+            throw new IndexOutOfBoundsException("Invalid index " + i);
+        }
+        linkBefore((i == size) ? NIL : node(i), value);
+    }
+
+    /**
+     * Returns the value at a specified position in this list
+     * @param i     the index of the value
+     * @return      the value at index i
+     */
+    public long get(int i) {
+        if(i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return values[node(i)];
+    }
+
+    /**
+     * Replaces the value at a specified position in this list
+     * @param i         the index of the value to replace
+     * @param value     the replacement value
+     * @return          the value previously at index i
+     */
+    public long set(int i, long value) {
+        if(i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        int slot = node(i);
+        long old = values[slot];
+        values[slot] = value;
+        return old;
+    }
+
+    /**
+     * Removes the value at a specified position in this list
+     * @param i     the index of the value to remove
+     * @return      the value that was removed
+     */
+    public long remove(int i) {
+        if(i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return unlink(node(i));
+    }
+
+    /**
+     * Removes the first occurrence of a value from this list, if it is present
+     * @param value     the value to remove
+     * @return          true if the list contained the value
+     */
+    public boolean removeValue(long value) {
+        for (int slot = head; slot != NIL; slot = next[slot]) {
+            if (values[slot] == value) {
+                unlink(slot);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if this list contains a specified value
+     * @param value     the value to look for
+     * @return          true if the value is in the list
+     */
+    public boolean contains(long value) {
+        return (indexOf(value) != -1);
+    }
+
+    /**
+     * Returns the index of the first occurrence of a value in this list
+     * @param value     the value to look for
+     * @return          the index of the value, or -1 if the list does not contain it
+     */
+    public int indexOf(long value) {
+        int i = 0;
+        for (int slot = head; slot != NIL; slot = next[slot]) {
+            if (values[slot] == value) {
+                return i;
+            }
+            i++;
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the last occurrence of a value in this list
+     * @param value     the value to look for
+     * @return          the index of the value, or -1 if the list does not contain it
+     */
+    public int lastIndexOf(long value) {
+        int i = size - 1;
+        for (int slot = tail; slot != NIL; slot = prev[slot]) {
+            if (values[slot] == value) {
+                return i;
+            }
+            i--;
+        }
+        return -1;
+    }
+
+    /**
+     * Removes all of the values from this list, keeping the arrays for reuse
+     */
+    public void clear() {
+        head = NIL;
+        tail = NIL;
+        size = 0;
+        freeHead = NIL;
+        used = 0;
+        modCount++;
+    }
+
+    /**
+     * Returns an array containing all of the values in this list in order
+     * @return      a new array of the list's values
+     */
+    public long[] toArray() {
+        long[] result = new long[size];
+        int i = 0;
+        for (int slot = head; slot != NIL; slot = next[slot]) {
+            result[i++] = values[slot];
+        }
+        return result;
+    }
+
+    /**
+     * Returns a list iterator over the values in this list, starting at the beginning of the list
+     * @return      a new list iterator
+     */
+    public LongListIterator listIterator() {
+        return new LongListIterator(0);
+    }
+
+    /**
+     * Returns a list iterator over the values in this list, starting at a specified position
+     * @param i     the index of the first value returned by nextLong()
+     * @return      a new list iterator
+     */
+    public LongListIterator listIterator(int i) {
+        return new LongListIterator(i);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if(!(o instanceof LongDoubleLinkedList)) {
+            return false;
+        }
+        LongDoubleLinkedList other = (LongDoubleLinkedList) o;
+        if(size != other.size) {
+            return false;
+        }
+        for (int slot = head, otherSlot = other.head; slot != NIL; slot = next[slot], otherSlot = other.next[otherSlot]) {
+            if (values[slot] != other.values[otherSlot]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        for (int slot = head; slot != NIL; slot = next[slot]) {
+            hash = 31 * hash + Long.hashCode(values[slot]);
+        }
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder("[");
+        for (int slot = head; slot != NIL; slot = next[slot]) {
+            result.append(values[slot]);
+            if (next[slot] != NIL) {
+                result.append(", ");
+            }
+        }
+        return result.append("]").toString();
+    }
+}
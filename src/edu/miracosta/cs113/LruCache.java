@@ -0,0 +1,280 @@
+package edu.miracosta.cs113;
+import java.util.*;
+
+/**
+ * LruCache.java : A bounded cache which evicts its least recently used entries. Entries are kept in a DoubleLinkedList
+ * ordered from most to least recently used, and a HashMap takes each key to the Handle of its entry, so a hit moves
+ * the entry to the head by relinking its Node and an eviction removes the tail, both in O(1). Hits and updates of keys
+ * already present allocate nothing.
+ *
+ * Capacity is measured in weight. By default every entry weighs 1, so the capacity is simply the maximum number of
+ * entries; a Weigher can give entries other weights, such as their size in bytes.
+ *
+ * @param <K>   generic type of the keys
+ * @param <V>   generic type of the cached values
+ * @see DoubleLinkedList
+ */
+public class LruCache<K, V> {
+    // data fields
+    private final long capacity;
+    private final Weigher<? super K, ? super V> weigher;
+    private final EvictionListener<? super K, ? super V> listener;
+    private final DoubleLinkedList<Entry<K, V>> order;     // most recently used at the head
+    private final Map<K, DoubleLinkedList.Handle<Entry<K, V>>> entries;
+    private long weight;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    /**
+     * Interface for giving each cache entry a weight which counts against the capacity
+     * @param <K>   generic type of the keys
+     * @param <V>   generic type of the values
+     */
+    public interface Weigher<K, V> {
+        /**
+         * Returns the weight of an entry
+         * @param key       the key of the entry
+         * @param value     the value of the entry
+         * @return          a weight of zero or more
+         */
+        int weigh(K key, V value);
+    }
+
+    /**
+     * Interface for being told about entries the cache evicts to stay within its capacity
+     * @param <K>   generic type of the keys
+     * @param <V>   generic type of the values
+     */
+    public interface EvictionListener<K, V> {
+        /**
+         * Called after an entry has been evicted
+         * @param key       the key of the evicted entry
+         * @param value     the value of the evicted entry
+         */
+        void onEviction(K key, V value);
+    }
+
+    /**
+     * Constructor that creates an empty LruCache holding at most a specified number of entries
+     * @param capacity  the maximum number of entries, must be at least 1
+     */
+    public LruCache(long capacity) {
+        this(capacity, null, null);
+    }
+
+    /**
+     * Constructor that creates an empty LruCache with a weight capacity and an eviction listener
+     * @param capacity  the maximum total weight of the entries, must be at least 1
+     * @param weigher   gives the weight of each entry, or null for a weight of 1 per entry
+     * @param listener  told about each eviction, or null
+     */
+    public LruCache(long capacity, Weigher<? super K, ? super V> weigher,
+                    EvictionListener<? super K, ? super V> listener) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Invalid capacity " + capacity);
+        }
+        this.capacity = capacity;
+        this.weigher = weigher;
+        this.listener = listener;
+        order = new DoubleLinkedList<Entry<K, V>>();
+        entries = new HashMap<K, DoubleLinkedList.Handle<Entry<K, V>>>();
+        weight = 0;
+        hitCount = 0;
+        missCount = 0;
+        evictionCount = 0;
+    }
+
+    /**
+     * An inner class for the entries kept in the recency list, each holding a key, its value and its weight
+     * @param <K>   generic type of the key
+     * @param <V>   generic type of the value
+     */
+    private static class Entry<K, V> {
+        private final K key;
+        private V value;
+        private int weight;
+
+        /**
+         * Constructor that creates an Entry instance
+         * @param key       the key of the entry
+         * @param value     the value of the entry
+         * @param weight    the weight of the entry
+         */
+        private Entry(K key, V value, int weight) {
+            this.key = key;
+            this.value = value;
+            this.weight = weight;
+        }
+    }
+
+    /**
+     * Helper method which returns the weight of an entry, checking it is not negative
+     * @param key       the key of the entry
+     * @param value     the value of the entry
+     * @return          the weight of the entry
+     */
+    private int weigh(K key, V value) {
+        if (weigher == null) {
+            return 1;
+        }
+        int entryWeight = weigher.weigh(key, value);
+        if (entryWeight < 0) {
+            throw new IllegalArgumentException("Invalid weight " + entryWeight);
+        }
+        return entryWeight;
+    }
+
+    /**
+     * Helper method which evicts least recently used entries until the total weight is within the capacity
+     */
+    private void evict() {
+        while (weight > capacity) {
+            Entry<K, V> entry = order.removeHandle(order.lastHandle());
+            entries.remove(entry.key);
+            weight -= entry.weight;
+            evictionCount++;
+            if (listener != null) {
+                listener.onEviction(entry.key, entry.value);
+            }
+        }
+    }
+
+    /**
+     * Returns the value cached for a key and marks it as the most recently used, counting a hit or a miss
+     * @param key   the key to look up
+     * @return      the cached value, or null if the key is not in the cache
+     */
+    public V get(Object key) {
+        DoubleLinkedList.Handle<Entry<K, V>> handle = entries.get(key);
+        if (handle == null) {
+            missCount++;
+            return null;
+        }
+        hitCount++;
+        order.moveToFront(handle);
+        return handle.get().value;
+    }
+
+    /**
+     * Caches a value for a key as the most recently used entry, evicting least recently used entries if the capacity
+     * is exceeded. An entry heavier than the whole capacity is evicted straight away.
+     * @param key       the key, must not be null
+     * @param value     the value to cache
+     * @return          the value previously cached for the key, or null if there was none
+     */
+    public V put(K key, V value) {
+        if (key == null) {
+            throw new NullPointerException();
+        }
+        int entryWeight = weigh(key, value);
+        V previous = null;
+        DoubleLinkedList.Handle<Entry<K, V>> handle = entries.get(key);
+        if (handle == null) {
+            entries.put(key, order.addFirstHandle(new Entry<K, V>(key, value, entryWeight)));
+        } else {
+            Entry<K, V> entry = handle.get();
+            previous = entry.value;
+            weight -= entry.weight;
+            entry.value = value;
+            entry.weight = entryWeight;
+            order.moveToFront(handle);
+        }
+        weight += entryWeight;
+        evict();
+        return previous;
+    }
+
+    /**
+     * Removes the entry for a key, without telling the eviction listener
+     * @param key   the key to remove
+     * @return      the value that was cached for the key, or null if there was none
+     */
+    public V remove(Object key) {
+        DoubleLinkedList.Handle<Entry<K, V>> handle = entries.remove(key);
+        if (handle == null) {
+            return null;
+        }
+        Entry<K, V> entry = order.removeHandle(handle);
+        weight -= entry.weight;
+        return entry.value;
+    }
+
+    /**
+     * Returns whether a key is cached, without counting a hit or a miss or changing its recency
+     * @param key   the key to look up
+     * @return      true if the key is in the cache
+     */
+    public boolean containsKey(Object key) {
+        return entries.containsKey(key);
+    }
+
+    /**
+     * Removes every entry, without telling the eviction listener. The counters are kept.
+     */
+    public void clear() {
+        entries.clear();
+        order.clear();
+        weight = 0;
+    }
+
+    /**
+     * Returns the keys from most to least recently used
+     * @return      a new List of the cached keys
+     */
+    public List<K> keys() {
+        List<K> result = new ArrayList<K>(order.size());
+        for (Entry<K, V> entry : order) {
+            result.add(entry.key);
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of cached entries
+     * @return      the number of entries
+     */
+    public int size() {
+        return order.size();
+    }
+
+    /**
+     * Returns the total weight of the cached entries
+     * @return      the sum of the entry weights, at most the capacity
+     */
+    public long weight() {
+        return weight;
+    }
+
+    /**
+     * Returns the maximum total weight of the cached entries
+     * @return      the capacity given to the constructor
+     */
+    public long capacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of calls to get which found their key
+     * @return      the hit count
+     */
+    public long hitCount() {
+        return hitCount;
+    }
+
+    /**
+     * Returns the number of calls to get which did not find their key
+     * @return      the miss count
+     */
+    public long missCount() {
+        return missCount;
+    }
+
+    /**
+     * Returns the number of entries evicted to stay within the capacity
+     * @return      the eviction count
+     */
+    public long evictionCount() {
+        return evictionCount;
+    }
+}
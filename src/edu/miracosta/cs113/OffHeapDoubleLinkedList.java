@@ -0,0 +1,476 @@
+package edu.miracosta.cs113;
+import java.io.Closeable;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.*;
+
+/**
+ * OffHeapDoubleLinkedList.java : A double linked list of fixed-width records whose nodes live outside the Java heap.
+ * Each node is a slot in a chunk of direct memory holding its prev index, its next index and the record bytes, so the
+ * list adds no per-element objects for the garbage collector to trace. Elements are converted to and from bytes by a
+ * Codec, which means get and iteration return decoded copies rather than the objects that were added.
+ *
+ * @param <E>   generic type of the records to be stored
+ * @see DoubleLinkedList
+ */
+public class OffHeapDoubleLinkedList<E> extends AbstractList<E> implements List<E>, Closeable {
+    private static final int NIL = -1;                  // slot index standing in for a null reference
+    private static final int PREV_OFFSET = 0;
+    private static final int NEXT_OFFSET = 4;
+    private static final int DATA_OFFSET = 8;
+    private static final int CHUNK_BYTES = 1 << 20;    // target size of each block of direct memory
+
+    /**
+     * Converts elements to and from a fixed number of bytes
+     * @param <E>   generic type of the records being converted
+     */
+    public interface Codec<E> {
+        /**
+         * Returns the number of bytes every encoded record occupies
+         * @return      the record width in bytes
+         */
+        int recordSize();
+
+        /**
+         * Writes a record into a buffer using absolute puts. The buffer covers only the record's slot, recordSize()
+         * bytes starting at offset, so a put outside it throws IndexOutOfBoundsException instead of overwriting the
+         * links of a neighbouring node.
+         * @param element   the record to encode
+         * @param buffer    the buffer to write into
+         * @param offset    the position of the record's first byte
+         */
+        void write(E element, ByteBuffer buffer, int offset);
+
+        /**
+         * Reads a record from a buffer using absolute gets
+         * @param buffer    the buffer to read from
+         * @param offset    the position of the record's first byte
+         * @return          the decoded record
+         */
+        E read(ByteBuffer buffer, int offset);
+    }
+
+    // data fields
+    private final Codec<E> codec;
+    private final int slotSize;
+    private final int slotsPerChunk;
+    private List<ByteBuffer> chunks;    // null once the list has been closed
+    private int head;
+    private int tail;
+    private int size;
+    private int freeHead;               // first slot of the chain of recycled slots, linked through next
+    private int used;                   // number of slots ever handed out, slots at or above this have never been used
+
+    /**
+     * Constructor that creates an empty OffHeapDoubleLinkedList
+     * @param codec     the Codec used to store and load records
+     */
+    public OffHeapDoubleLinkedList(Codec<E> codec) {
+        if (codec.recordSize() < 0) {
+            throw new IllegalArgumentException("Invalid record size " + codec.recordSize());
+        }
+        this.codec = codec;
+        slotSize = DATA_OFFSET + codec.recordSize();
+        slotsPerChunk = Math.max(1, CHUNK_BYTES / slotSize);
+        chunks = new ArrayList<ByteBuffer>();
+        head = NIL;
+        tail = NIL;
+        size = 0;
+        freeHead = NIL;
+        used = 0;
+    }
+
+    /**
+     * An inner class for creating a ListIterator which can traverse through the slots in OffHeapDoubleLinkedList
+     */
+    private class OffHeapListIterator implements ListIterator<E> {
+        // data fields
+        private int nextItem;
+        private int lastItemReturned;
+        private int index;
+        private int expectedModCount;
+
+        /**
+         * Constructor which sets up a list iterator at a specified position
+         * @param i     the index position that the iterator will begin at
+         */
+        public OffHeapListIterator(int i) {
+            checkOpen();
+            if (i < 0 || i > size) {
+                throw new IndexOutOfBoundsException("Invalid index " + i);
+            }
+            lastItemReturned = NIL;
+            index = i;
+            nextItem = (i == size) ? NIL : node(i);
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return (index < size);
+        }
+
+        @Override
+        public E next() {
+            checkForComodification();
+            if(!hasNext()) {
+                throw new NoSuchElementException("No next element");
+            }
+            lastItemReturned = nextItem;
+            nextItem = nextSlot(nextItem);
+            index++;
+            return read(lastItemReturned);
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return (index > 0);
+        }
+
+        @Override
+        public E previous() {
+            checkForComodification();
+            if(!hasPrevious()) {
+                throw new NoSuchElementException("No previous element");
+            }
+            nextItem = (nextItem == NIL) ? tail : prevSlot(nextItem);
+            lastItemReturned = nextItem;
+            index--;
+            return read(lastItemReturned);
+        }
+
+        @Override
+        public int nextIndex() {
+            return index;
+        }
+
+        @Override
+        public int previousIndex() {
+            return index - 1;
+        }
+
+        @Override
+        public void remove() {
+            if(lastItemReturned == NIL) {
+                throw new IllegalStateException("No last element returned");
+            }
+            checkForComodification();
+            if (nextItem == lastItemReturned) {     // last move was previous()
+                nextItem = nextSlot(lastItemReturned);
+            } else {
+                index--;
+            }
+            unlink(lastItemReturned);
+            lastItemReturned = NIL;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(E o) {
+            if(lastItemReturned == NIL) {
+                throw new IllegalStateException("No last element returned");
+            }
+            checkForComodification();
+            write(lastItemReturned, o);
+        }
+
+        @Override
+        public void add(E o) {
+            checkForComodification();
+            linkBefore(nextItem, o);
+            index++;
+            lastItemReturned = NIL;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Helper method which throws if the list was structurally modified other than through this iterator
+         */
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Helper method which throws if the list has been closed
+     */
+    private void checkOpen() {
+        if (chunks == null) {
+            throw new IllegalStateException("List has been closed");
+        }
+    }
+
+    /**
+     * Helper method which returns the chunk of direct memory holding a slot
+     * @param slot  the slot to locate
+     * @return      the chunk containing the slot
+     */
+    private ByteBuffer chunk(int slot) {
+        checkOpen();
+        return chunks.get(slot / slotsPerChunk);
+    }
+
+    /**
+     * Helper method which returns the byte position of a slot within its chunk
+     * @param slot  the slot to locate
+     * @return      the position of the slot's first byte
+     */
+    private int offset(int slot) {
+        return (slot % slotsPerChunk) * slotSize;
+    }
+
+    /**
+     * Helper method which returns the slot before a specified slot
+     * @param slot  the slot to read from
+     * @return      the previous slot, NIL at the head of the list
+     */
+    private int prevSlot(int slot) {
+        return chunk(slot).getInt(offset(slot) + PREV_OFFSET);
+    }
+
+    /**
+     * Helper method which returns the slot after a specified slot, or the next free slot for a slot on the free chain
+     * @param slot  the slot to read from
+     * @return      the next slot, NIL at the tail of the list
+     */
+    private int nextSlot(int slot) {
+        return chunk(slot).getInt(offset(slot) + NEXT_OFFSET);
+    }
+
+    /**
+     * Helper method which stores the slot before a specified slot
+     * @param slot      the slot to write to
+     * @param value     the previous slot
+     */
+    private void setPrevSlot(int slot, int value) {
+        chunk(slot).putInt(offset(slot) + PREV_OFFSET, value);
+    }
+
+    /**
+     * Helper method which stores the slot after a specified slot
+     * @param slot      the slot to write to
+     * @param value     the next slot
+     */
+    private void setNextSlot(int slot, int value) {
+        chunk(slot).putInt(offset(slot) + NEXT_OFFSET, value);
+    }
+
+    /**
+     * Helper method which decodes the record stored in a slot
+     * @param slot  the slot holding the record
+     * @return      a decoded copy of the record
+     */
+    private E read(int slot) {
+        return codec.read(chunk(slot), offset(slot) + DATA_OFFSET);
+    }
+
+    /**
+     * Helper method which encodes a record into a slot
+     * @param slot  the slot to hold the record
+     * @param o     the record to be stored
+     */
+    private void write(int slot, E o) {
+        ByteBuffer record = chunk(slot).slice(offset(slot) + DATA_OFFSET, slotSize - DATA_OFFSET);
+        codec.write(o, record.order(ByteOrder.nativeOrder()), 0);
+    }
+
+    /**
+     * Helper method which finds the slot at a specified position, walking from whichever end of the list is closer
+     * @param i     the index of the slot to find, must be in the range [0, size)
+     * @return      the slot at position i
+     */
+    private int node(int i) {
+        int slot;
+        if (i < (size >> 1)) {
+            slot = head;
+            for (int k = 0; k < i; k++) {
+                slot = nextSlot(slot);
+            }
+        } else {
+            slot = tail;
+            for (int k = size - 1; k > i; k--) {
+                slot = prevSlot(slot);
+            }
+        }
+        return slot;
+    }
+
+    /**
+     * Helper method which takes a slot from the free chain, or a never used slot if the free chain is empty, adding
+     * a chunk of direct memory when every slot is in use
+     * @return      the slot now reserved for a new record
+     */
+    private int allocate() {
+        checkOpen();
+        if (freeHead != NIL) {
+            int slot = freeHead;
+            freeHead = nextSlot(slot);
+            return slot;
+        }
+        if (used == chunks.size() * slotsPerChunk) {
+            chunks.add(ByteBuffer.allocateDirect(slotsPerChunk * slotSize).order(ByteOrder.nativeOrder()));
+        }
+        return used++;
+    }
+
+    /**
+     * Helper method which returns a slot that is not linked into the list to the free chain
+     * @param slot  the slot to be recycled
+     */
+    private void release(int slot) {
+        setNextSlot(slot, freeHead);
+        freeHead = slot;
+    }
+
+    /**
+     * Helper method which links a new record into the list before a specified slot
+     * @param successor     the slot the record is inserted before, NIL to append to the end of the list
+     * @param o             the record to be inserted
+     */
+    private void linkBefore(int successor, E o) {
+        int slot = allocate();
+        boolean written = false;
+        try {
+            write(slot, o);
+            written = true;
+        } finally {
+            if (!written) {     // the codec threw, so hand the slot back rather than leaking it
+                release(slot);
+            }
+        }
+        int predecessor = (successor == NIL) ? tail : prevSlot(successor);
+        setPrevSlot(slot, predecessor);
+        setNextSlot(slot, successor);
+        if (predecessor == NIL) {
+            head = slot;
+        } else {
+            setNextSlot(predecessor, slot);
+        }
+        if (successor == NIL) {
+            tail = slot;
+        } else {
+            setPrevSlot(successor, slot);
+        }
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Helper method which unlinks a slot from the list and returns it to the free chain
+     * @param slot  the slot to be removed
+     */
+    private void unlink(int slot) {
+        int predecessor = prevSlot(slot);
+        int successor = nextSlot(slot);
+        if (predecessor == NIL) {
+            head = successor;
+        } else {
+            setNextSlot(predecessor, successor);
+        }
+        if (successor == NIL) {
+            tail = predecessor;
+        } else {
+            setPrevSlot(successor, predecessor);
+        }
+        release(slot);
+        size--;
+        modCount++;
+    }
+
+    /**
+     * Releases the direct memory held by this list. Any later access other than size, isEmpty and close throws
+     * IllegalStateException. The chunks are returned to the system once the garbage collector reclaims their
+     * ByteBuffer objects, as ByteBuffer offers no supported way to free direct memory immediately.
+     */
+    @Override
+    public void close() {
+        chunks = null;
+        head = NIL;
+        tail = NIL;
+        size = 0;
+        freeHead = NIL;
+        used = 0;
+        modCount++;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public E get(int i) {
+        checkOpen();
+        if(i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return read(node(i));
+    }
+
+    @Override
+    public E set(int i, E o) {
+        checkOpen();
+        if(i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        int slot = node(i);
+        E obj = read(slot);
+        write(slot, o);
+        return obj;
+    }
+
+    @Override
+    public boolean add(E o) {
+        linkBefore(NIL, o);
+        return true;
+    }
+
+    @Override
+    public void add(int i, E o) {
+        checkOpen();
+        if (i < 0 || i > size) {
+            throw new IndexOutOfBoundsException("Invalid index " + i);
+        }
+        linkBefore((i == size) ? NIL : node(i), o);
+    }
+
+    @Override
+    public E remove(int i) {
+        checkOpen();
+        if(i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        int slot = node(i);
+        E obj = read(slot);
+        unlink(slot);
+        return obj;
+    }
+
+    @Override
+    public void clear() {
+        checkOpen();
+        head = NIL;
+        tail = NIL;
+        size = 0;
+        freeHead = NIL;
+        used = 0;
+        modCount++;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new OffHeapListIterator(0);
+    }
+
+    @Override
+    public ListIterator<E> listIterator() {
+        return new OffHeapListIterator(0);
+    }
+
+    @Override
+    public ListIterator<E> listIterator(int i) {
+        return new OffHeapListIterator(i);
+    }
+}
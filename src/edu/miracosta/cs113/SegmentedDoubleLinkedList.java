@@ -0,0 +1,583 @@
+package edu.miracosta.cs113;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+
+/**
+ * SegmentedDoubleLinkedList.java : A thread-safe list made of a chain of DoubleLinkedList segments, each guarded by its
+ * own lock, so that threads working on different regions of a large list do not block each other. A position is
+ * resolved in O(log s) time, for s segments, through a Fenwick tree of the segment sizes, then only the segment
+ * holding that position is locked. Segments which grow past their capacity are split in half and empty segments are
+ * dropped; those changes to the chain itself take an exclusive lock.
+ *
+ * Each operation is atomic with respect to its segment. When other threads are adding or removing elements earlier in
+ * the list at the same time, an index is resolved against the segment sizes seen during the call, exactly as if the
+ * caller had computed the index a moment earlier. An index which was valid when the caller computed it, such as one
+ * taken from size(), can therefore be out of range by the time it is resolved if other threads remove elements in
+ * between. The call then throws IndexOutOfBoundsException and leaves the list unchanged, so callers that race with
+ * removals must be prepared to handle it.
+ *
+ * Searches by value, equals and hashCode walk each segment once while holding only that segment's lock, and the
+ * iterators work on a snapshot, so none of them resolve an index per element.
+ *
+ * @param <E>   generic type of the data to be stored
+ * @see DoubleLinkedList
+ */
+public class SegmentedDoubleLinkedList<E> extends AbstractList<E> implements List<E> {
+    /** Number of elements a segment holds before it is split, unless another capacity is passed to the constructor */
+    public static final int DEFAULT_SEGMENT_CAPACITY = 1024;
+
+    // data fields
+    private final int segmentCapacity;
+    private final ReentrantReadWriteLock chainLock;     // read lock for every operation, write lock to split or drop
+    private final List<Segment<E>> segments;            // only changed while holding the write lock
+    private AtomicIntegerArray index;                   // Fenwick tree of segment sizes, replaced under the write lock
+    private final AtomicInteger size;
+
+    /**
+     *  Default constructor that creates an empty SegmentedDoubleLinkedList with the default segment capacity
+     */
+    public SegmentedDoubleLinkedList() {
+        this(DEFAULT_SEGMENT_CAPACITY);
+    }
+
+    /**
+     * Constructor that creates an empty SegmentedDoubleLinkedList whose segments hold up to a specified number of
+     * elements before they are split
+     * @param segmentCapacity   the number of elements per segment, must be at least 2
+     */
+    public SegmentedDoubleLinkedList(int segmentCapacity) {
+        if (segmentCapacity < 2) {
+            throw new IllegalArgumentException("Invalid segment capacity " + segmentCapacity);
+        }
+        this.segmentCapacity = segmentCapacity;
+        chainLock = new ReentrantReadWriteLock();
+        segments = new ArrayList<Segment<E>>();
+        segments.add(new Segment<E>());
+        buildIndex();
+        size = new AtomicInteger(0);
+    }
+
+    /**
+     * An inner class for creating segments, each a DoubleLinkedList with its own lock and a published size
+     * @param <E>   generic type of the data to be stored
+     */
+    private static class Segment<E> {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final DoubleLinkedList<E> items = new DoubleLinkedList<E>();
+        private volatile int size = 0;      // copy of items.size() readable without the lock
+        private int position = 0;           // place in the chain, only changed while holding the write lock
+    }
+
+    /**
+     * An inner class pairing a locked segment with the position of an index within it
+     * @param <E>   generic type of the data stored in the segment
+     */
+    private static class Position<E> {
+        private final Segment<E> segment;
+        private final int offset;
+
+        /**
+         * Constructor that creates a Position instance
+         * @param segment   the segment holding the index, already locked by the caller
+         * @param offset    the index relative to the start of the segment
+         */
+        private Position(Segment<E> segment, int offset) {
+            this.segment = segment;
+            this.offset = offset;
+        }
+    }
+
+    /**
+     * Helper method which rebuilds the Fenwick tree of segment sizes and renumbers the segments. Must be called with
+     * the write lock of the chain held.
+     */
+    private void buildIndex() {
+        int count = segments.size();
+        int[] tree = new int[count + 1];
+        for (int k = 1; k <= count; k++) {
+            Segment<E> segment = segments.get(k - 1);
+            segment.position = k - 1;
+            tree[k] += segment.size;
+            int parent = k + (k & -k);
+            if (parent <= count) {
+                tree[parent] += tree[k];
+            }
+        }
+        index = new AtomicIntegerArray(tree);
+    }
+
+    /**
+     * Helper method which publishes the size of a segment after its items changed. Must be called with the read lock
+     * of the chain and the lock of the segment held.
+     * @param segment   the segment whose items changed
+     */
+    private void updateSize(Segment<E> segment) {
+        int delta = segment.items.size() - segment.size;
+        segment.size = segment.items.size();
+        if (delta != 0) {
+            for (int k = segment.position + 1; k < index.length(); k += (k & -k)) {
+                index.addAndGet(k, delta);
+            }
+        }
+    }
+
+    /**
+     * Helper method which returns the number of elements in the segments before a specified one. Must be called with
+     * the read lock of the chain held.
+     * @param k     the position of the segment in the chain
+     * @return      the sum of the sizes of the segments before it
+     */
+    private int sizeBefore(int k) {
+        int sum = 0;
+        for (int j = k; j > 0; j -= (j & -j)) {
+            sum += index.get(j);
+        }
+        return sum;
+    }
+
+    /**
+     * Helper method which finds and locks the segment holding a specified index. Must be called with the read lock of
+     * the chain held. If the segment shrinks between reading the index and locking it, the search is repeated.
+     * @param i         the index to find
+     * @param insert    true if i may equal the size of the list, as when inserting at the end
+     * @return          the locked segment and the offset of i within it
+     */
+    private Position<E> lockPosition(int i, boolean insert) {
+        if (i < 0) {
+            throw new IndexOutOfBoundsException("Invalid index " + i);
+        }
+        int count = segments.size();
+        while (true) {
+            // descend the Fenwick tree to the first segment which ends after i
+            int k = 0;
+            int offset = i;
+            for (int step = Integer.highestOneBit(count); step > 0; step >>= 1) {
+                if (k + step <= count) {
+                    int skipped = index.get(k + step);
+                    if (skipped <= offset) {
+                        k += step;
+                        offset -= skipped;
+                    }
+                }
+            }
+            if (k == count) {       // i is at or past the end of the list
+                if (!insert || offset > 0) {
+                    throw new IndexOutOfBoundsException("Invalid index " + i);
+                }
+                k = count - 1;
+                offset = i - sizeBefore(k);
+            }
+            Segment<E> found = segments.get(k);
+            found.lock.lock();
+            if (offset < found.items.size() || (insert && offset == found.items.size())) {
+                return new Position<E>(found, offset);
+            }
+            found.lock.unlock();
+        }
+    }
+
+    /**
+     * Helper method which splits segments that have grown past their capacity and drops empty segments, as long as
+     * at least one segment remains
+     */
+    private void rebalance() {
+        chainLock.writeLock().lock();
+        try {
+            for (int k = 0; k < segments.size(); k++) {
+                Segment<E> segment = segments.get(k);
+                if (segment.items.size() > segmentCapacity) {
+                    Segment<E> upper = new Segment<E>();
+                    upper.items.append(segment.items.splitAt(segment.items.size() >> 1));
+                    segment.size = segment.items.size();
+                    upper.size = upper.items.size();
+                    segments.add(k + 1, upper);
+                    k--;    // check the lower half again in case it is still too large
+                } else if (segment.items.isEmpty() && segments.size() > 1) {
+                    segments.remove(k);
+                    k--;
+                }
+            }
+            buildIndex();
+        } finally {
+            chainLock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        return size.get();
+    }
+
+    @Override
+    public E get(int i) {
+        chainLock.readLock().lock();
+        try {
+            Position<E> position = lockPosition(i, false);
+            try {
+                return position.segment.items.get(position.offset);
+            } finally {
+                position.segment.lock.unlock();
+            }
+        } finally {
+            chainLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public E set(int i, E o) {
+        chainLock.readLock().lock();
+        try {
+            Position<E> position = lockPosition(i, false);
+            try {
+                return position.segment.items.set(position.offset, o);
+            } finally {
+                position.segment.lock.unlock();
+            }
+        } finally {
+            chainLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean add(E o) {
+        boolean split;
+        chainLock.readLock().lock();
+        try {
+            Segment<E> last = segments.get(segments.size() - 1);
+            last.lock.lock();
+            try {
+                last.items.add(o);
+                updateSize(last);
+                split = last.size > segmentCapacity;
+            } finally {
+                last.lock.unlock();
+            }
+            size.incrementAndGet();
+        } finally {
+            chainLock.readLock().unlock();
+        }
+        if (split) {
+            rebalance();
+        }
+        return true;
+    }
+
+    @Override
+    public void add(int i, E o) {
+        boolean split;
+        chainLock.readLock().lock();
+        try {
+            Position<E> position = lockPosition(i, true);
+            Segment<E> segment = position.segment;
+            try {
+                segment.items.add(position.offset, o);
+                updateSize(segment);
+                split = segment.size > segmentCapacity;
+            } finally {
+                segment.lock.unlock();
+            }
+            size.incrementAndGet();
+        } finally {
+            chainLock.readLock().unlock();
+        }
+        if (split) {
+            rebalance();
+        }
+    }
+
+    @Override
+    public E remove(int i) {
+        E obj;
+        boolean empty;
+        chainLock.readLock().lock();
+        try {
+            Position<E> position = lockPosition(i, false);
+            Segment<E> segment = position.segment;
+            try {
+                obj = segment.items.remove(position.offset);
+                updateSize(segment);
+                empty = (segment.size == 0);
+            } finally {
+                segment.lock.unlock();
+            }
+            size.decrementAndGet();
+        } finally {
+            chainLock.readLock().unlock();
+        }
+        if (empty) {
+            rebalance();
+        }
+        return obj;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        boolean found = false;
+        boolean empty = false;
+        chainLock.readLock().lock();
+        try {
+            for (int k = 0; k < segments.size() && !found; k++) {
+                Segment<E> segment = segments.get(k);
+                segment.lock.lock();
+                try {
+                    found = segment.items.remove(o);
+                    updateSize(segment);
+                    empty = (segment.size == 0);
+                } finally {
+                    segment.lock.unlock();
+                }
+            }
+            if (found) {
+                size.decrementAndGet();
+            }
+        } finally {
+            chainLock.readLock().unlock();
+        }
+        if (found && empty) {
+            rebalance();
+        }
+        return found;
+    }
+
+    /**
+     * Removes every element matching a predicate, locking one segment at a time, so each segment is filtered
+     * atomically but elements added to segments already visited are not checked
+     * @param filter    returns true for the elements to be removed
+     * @return          true if any element was removed
+     */
+    @Override
+    public boolean removeIf(Predicate<? super E> filter) {
+        if (filter == null) {
+            throw new NullPointerException();
+        }
+        boolean empty = false;
+        boolean removed = false;
+        chainLock.readLock().lock();
+        try {
+            for (Segment<E> segment : segments) {
+                segment.lock.lock();
+                try {
+                    int before = segment.items.size();
+                    if (segment.items.removeIf(filter)) {
+                        updateSize(segment);
+                        size.addAndGet(segment.size - before);
+                        empty |= (segment.size == 0);
+                        removed = true;
+                    }
+                } finally {
+                    segment.lock.unlock();
+                }
+            }
+        } finally {
+            chainLock.readLock().unlock();
+        }
+        if (empty) {
+            rebalance();
+        }
+        return removed;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> collection) {
+        final Collection<?> lookup = (collection instanceof Set) ? collection : new HashSet<Object>(collection);
+        return removeIf(new Predicate<E>() {
+            @Override
+            public boolean test(E o) {
+                return lookup.contains(o);
+            }
+        });
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> collection) {
+        final Collection<?> lookup = (collection instanceof Set) ? collection : new HashSet<Object>(collection);
+        return removeIf(new Predicate<E>() {
+            @Override
+            public boolean test(E o) {
+                return !lookup.contains(o);
+            }
+        });
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return (indexOf(o) != -1);
+    }
+
+    /**
+     * Returns the index of the first occurrence of an element, searching each segment once while holding its lock.
+     * Segments are locked one at a time, so under concurrent changes the index is resolved against the sizes seen
+     * during the search.
+     * @param o     the element to search for
+     * @return      the index of its first occurrence, or -1 if it was not found
+     */
+    @Override
+    public int indexOf(Object o) {
+        chainLock.readLock().lock();
+        try {
+            int start = 0;
+            for (Segment<E> segment : segments) {
+                segment.lock.lock();
+                try {
+                    int i = segment.items.indexOf(o);
+                    if (i != -1) {
+                        return start + i;
+                    }
+                    start += segment.items.size();
+                } finally {
+                    segment.lock.unlock();
+                }
+            }
+            return -1;
+        } finally {
+            chainLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the index of the last occurrence of an element, searching each segment once, from the last, while
+     * holding its lock
+     * @param o     the element to search for
+     * @return      the index of its last occurrence, or -1 if it was not found
+     */
+    @Override
+    public int lastIndexOf(Object o) {
+        chainLock.readLock().lock();
+        try {
+            for (int k = segments.size() - 1; k >= 0; k--) {
+                Segment<E> segment = segments.get(k);
+                segment.lock.lock();
+                try {
+                    int i = segment.items.lastIndexOf(o);
+                    if (i != -1) {
+                        return sizeBefore(k) + i;
+                    }
+                } finally {
+                    segment.lock.unlock();
+                }
+            }
+            return -1;
+        } finally {
+            chainLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        if (!(o instanceof List)) {
+            return false;
+        }
+        return Arrays.asList(toArray()).equals(o);
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 1;
+        chainLock.readLock().lock();
+        try {
+            for (Segment<E> segment : segments) {
+                segment.lock.lock();
+                try {
+                    for (E o : segment.items) {
+                        hash = 31 * hash + (o == null ? 0 : o.hashCode());
+                    }
+                } finally {
+                    segment.lock.unlock();
+                }
+            }
+        } finally {
+            chainLock.readLock().unlock();
+        }
+        return hash;
+    }
+
+    /**
+     * Removes the elements from one index up to another by removing at the first index repeatedly, so that clear on a
+     * subList does not depend on the snapshot listIterator supporting remove
+     * @param from  the index of the first element to remove
+     * @param to    the index after the last element to remove
+     */
+    @Override
+    protected void removeRange(int from, int to) {
+        for (int k = from; k < to; k++) {
+            remove(from);
+        }
+    }
+
+    @Override
+    public void clear() {
+        chainLock.writeLock().lock();
+        try {
+            segments.clear();
+            segments.add(new Segment<E>());
+            buildIndex();
+            size.set(0);
+        } finally {
+            chainLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns a consistent snapshot of the list's elements, taken while holding every segment lock
+     * @return      a new array of the list's elements
+     */
+    @Override
+    public Object[] toArray() {
+        chainLock.readLock().lock();
+        try {
+            for (Segment<E> segment : segments) {
+                segment.lock.lock();
+            }
+            try {
+                int count = 0;
+                for (Segment<E> segment : segments) {
+                    count += segment.items.size();
+                }
+                Object[] result = new Object[count];
+                int i = 0;
+                for (Segment<E> segment : segments) {
+                    for (E o : segment.items) {
+                        result[i++] = o;
+                    }
+                }
+                return result;
+            } finally {
+                for (Segment<E> segment : segments) {
+                    segment.lock.unlock();
+                }
+            }
+        } finally {
+            chainLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns an Iterator over a snapshot of the list, which never throws ConcurrentModificationException and does
+     * not support remove; remove(Object), removeIf, removeAll and retainAll work on the segments directly instead
+     * @return      an Iterator over the elements present when it was created
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public Iterator<E> iterator() {
+        return (Iterator<E>) Collections.unmodifiableList(Arrays.asList(toArray())).iterator();
+    }
+
+    /**
+     * Returns a ListIterator over a snapshot of the list, starting at a specified index. Like iterator, it never
+     * throws ConcurrentModificationException and does not support remove, set or add.
+     * @param i     the index of the first element returned by next
+     * @return      a ListIterator over the elements present when it was created
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public ListIterator<E> listIterator(int i) {
+        return (ListIterator<E>) Collections.unmodifiableList(Arrays.asList(toArray())).listIterator(i);
+    }
+}
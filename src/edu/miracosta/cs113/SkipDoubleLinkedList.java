@@ -0,0 +1,485 @@
+package edu.miracosta.cs113;
+import java.util.*;
+
+/**
+ * SkipDoubleLinkedList.java : A double linked list with an indexable skip list layered over its node chain. Every Node
+ * is on level 0, the ordinary prev/next chain, and on a random number of higher levels; each forward link records its
+ * span, the number of positions it skips. Positional get, set, add and remove follow the spans down from the top level
+ * in O(log n) expected time, while adding or removing at either end only touches the levels of the Node involved.
+ *
+ * The header is a sentinel which closes every level into a ring. Spans of links that end at the header are not stored
+ * but follow from the size of the list, and the header's own spans and the cached positions of the last Node on each
+ * level are stored offset by a shift, so that adding or removing at the head moves every position at once.
+ *
+ * @param <E>   generic type of the data to be stored in nodes
+ * @see DoubleLinkedList
+ */
+public class SkipDoubleLinkedList<E> extends AbstractList<E> implements List<E> {
+    private static final int MAX_LEVEL = 16;    // a 1 in 4 promotion rate covers well over 2^31 elements
+
+    // data fields
+    private final Node<E> header;
+    private final int[] lastPos;        // position of header.prev[l] plus shift, meaningless while level l is empty
+    private final Node<E>[] preds;      // scratch space for predecessor searches
+    private final int[] predPos;
+    private final Random random;
+    private int shift;                  // subtracted from header spans and lastPos
+    private int level;                  // number of levels in use, at least 1
+    private int size;
+
+    /**
+     *  Default constructor that creates an empty SkipDoubleLinkedList
+     */
+    @SuppressWarnings("unchecked")
+    public SkipDoubleLinkedList() {
+        header = new Node<E>(null, MAX_LEVEL);
+        lastPos = new int[MAX_LEVEL];
+        preds = (Node<E>[]) new Node<?>[MAX_LEVEL];
+        predPos = new int[MAX_LEVEL];
+        random = new Random();
+        reset();
+    }
+
+    /**
+     * An inner class for creating Nodes in the SkipDoubleLinkedList which store data and, for each level the Node is
+     * on, a reference to the previous node, a reference to the next node and the span to the next node
+     * @param <E>   generic type of the data to be stored
+     */
+    private static class Node<E> {
+        private E data;
+        private final Node<E>[] next;
+        private final Node<E>[] prev;
+        private final int[] width;
+
+        /**
+         * Constructor that creates a Node instance that has data stored
+         * @param dataItem  data passed to be stored in the new Node
+         * @param height    the number of levels the new Node is on
+         */
+        @SuppressWarnings("unchecked")
+        private Node(E dataItem, int height) {
+            data = dataItem;
+            next = (Node<E>[]) new Node<?>[height];
+            prev = (Node<E>[]) new Node<?>[height];
+            width = new int[height];
+        }
+
+        /**
+         * Returns the number of levels this Node is on
+         * @return      the height of the Node
+         */
+        private int height() {
+            return next.length;
+        }
+    }
+
+    /**
+     * An inner class for creating a ListIterator which can traverse through the Nodes in SkipDoubleLinkedList
+     */
+    private class SkipListIterator implements ListIterator<E> {
+        // data fields
+        private Node<E> nextItem;           // header at the end of the list
+        private Node<E> lastItemReturned;
+        private int index;
+        private int expectedModCount;
+
+        /**
+         * Constructor which sets up a list iterator at a specified position
+         * @param i     the index position that the iterator will begin at
+         */
+        public SkipListIterator(int i) {
+            if (i < 0 || i > size) {
+                throw new IndexOutOfBoundsException("Invalid index " + i);
+            }
+            lastItemReturned = null;
+            index = i;
+            nextItem = (i == size) ? header : node(i);
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return (index < size);
+        }
+
+        @Override
+        public E next() {
+            checkForComodification();
+            if(!hasNext()) {
+                throw new NoSuchElementException("No next element");
+            }
+            lastItemReturned = nextItem;
+            nextItem = nextItem.next[0];
+            index++;
+            return lastItemReturned.data;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return (index > 0);
+        }
+
+        @Override
+        public E previous() {
+            checkForComodification();
+            if(!hasPrevious()) {
+                throw new NoSuchElementException("No previous element");
+            }
+            nextItem = nextItem.prev[0];
+            lastItemReturned = nextItem;
+            index--;
+            return lastItemReturned.data;
+        }
+
+        @Override
+        public int nextIndex() {
+            return index;
+        }
+
+        @Override
+        public int previousIndex() {
+            return index - 1;
+        }
+
+        @Override
+        public void remove() {
+            if(lastItemReturned == null) {
+                throw new IllegalStateException("No last element returned");
+            }
+            checkForComodification();
+            if (nextItem == lastItemReturned) {     // last move was previous()
+                nextItem = lastItemReturned.next[0];
+            } else {
+                index--;
+            }
+            unlinkAt(index);
+            lastItemReturned = null;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(E o) {
+            if(lastItemReturned == null) {
+                throw new IllegalStateException("No last element returned");
+            }
+            checkForComodification();
+            lastItemReturned.data = o;
+        }
+
+        @Override
+        public void add(E o) {
+            checkForComodification();
+            linkAt(index, o);
+            index++;
+            lastItemReturned = null;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Helper method which throws if the list was structurally modified other than through this iterator
+         */
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Helper method which empties the list by closing every level of the header into a ring
+     */
+    private void reset() {
+        for (int l = 0; l < MAX_LEVEL; l++) {
+            header.next[l] = header;
+            header.prev[l] = header;
+            header.width[l] = 0;
+        }
+        shift = 0;
+        level = 1;
+        size = 0;
+    }
+
+    /**
+     * Helper method which returns the span of a link that does not end at the header
+     * @param nodeRef   the Node the link starts from
+     * @param l         the level of the link
+     * @return          the number of positions from nodeRef to nodeRef.next[l]
+     */
+    private int span(Node<E> nodeRef, int l) {
+        return (nodeRef == header) ? nodeRef.width[l] - shift : nodeRef.width[l];
+    }
+
+    /**
+     * Helper method which stores the span of a link that does not end at the header
+     * @param nodeRef   the Node the link starts from
+     * @param l         the level of the link
+     * @param value     the number of positions from nodeRef to nodeRef.next[l]
+     */
+    private void setSpan(Node<E> nodeRef, int l, int value) {
+        nodeRef.width[l] = (nodeRef == header) ? value + shift : value;
+    }
+
+    /**
+     * Helper method which returns the position of the last Node on a level
+     * @param l     a level that is not empty
+     * @return      the index of header.prev[l]
+     */
+    private int lastPosition(int l) {
+        return lastPos[l] - shift;
+    }
+
+    /**
+     * Helper method which stores the position of the last Node on a level
+     * @param l         the level
+     * @param value     the index of header.prev[l]
+     */
+    private void setLastPosition(int l, int value) {
+        lastPos[l] = value + shift;
+    }
+
+    /**
+     * Helper method which picks the number of levels for a new Node, promoting it one level with probability 1/4
+     * @return      a height between 1 and MAX_LEVEL
+     */
+    private int randomHeight() {
+        int height = 1;
+        while (height < MAX_LEVEL && (random.nextInt() & 3) == 0) {
+            height++;
+        }
+        return height;
+    }
+
+    /**
+     * Helper method which finds the Node at a specified position by following spans down from the top level
+     * @param i     the index of the Node to find, must be in the range [0, size)
+     * @return      the Node at position i
+     */
+    private Node<E> node(int i) {
+        Node<E> nodeRef = header;
+        int position = -1;
+        for (int l = level - 1; l >= 0; l--) {
+            while (nodeRef.next[l] != header && position + span(nodeRef, l) <= i) {
+                position += span(nodeRef, l);
+                nodeRef = nodeRef.next[l];
+            }
+        }
+        return nodeRef;
+    }
+
+    /**
+     * Helper method which fills preds and predPos with the last Node before a specified position on each level
+     * @param i     the position whose predecessors are wanted
+     */
+    private void findPredecessors(int i) {
+        Node<E> nodeRef = header;
+        int position = -1;
+        for (int l = level - 1; l >= 0; l--) {
+            while (nodeRef.next[l] != header && position + span(nodeRef, l) < i) {
+                position += span(nodeRef, l);
+                nodeRef = nodeRef.next[l];
+            }
+            preds[l] = nodeRef;
+            predPos[l] = position;
+        }
+    }
+
+    /**
+     * Helper method which links a new Node in at a specified position
+     * @param i     the index the new Node will occupy, in the range [0, size]
+     * @param o     the data to be stored in the new Node
+     */
+    private void linkAt(int i, E o) {
+        int height = randomHeight();
+        Node<E> nodeRef = new Node<E>(o, height);
+        if (i == 0) {
+            shift--;    // every header span and last position grows by one
+            for (int l = 0; l < height; l++) {
+                Node<E> first = header.next[l];
+                if (first == header) {
+                    header.prev[l] = nodeRef;
+                    setLastPosition(l, 0);
+                } else {
+                    nodeRef.width[l] = span(header, l) - 1;
+                    first.prev[l] = nodeRef;
+                }
+                nodeRef.next[l] = first;
+                nodeRef.prev[l] = header;
+                header.next[l] = nodeRef;
+                setSpan(header, l, 1);
+            }
+        } else if (i == size) {
+            for (int l = 0; l < height; l++) {
+                Node<E> last = header.prev[l];
+                int position = (last == header) ? -1 : lastPosition(l);
+                setSpan(last, l, i - position);
+                last.next[l] = nodeRef;
+                nodeRef.prev[l] = last;
+                nodeRef.next[l] = header;
+                header.prev[l] = nodeRef;
+                setLastPosition(l, i);
+            }
+        } else {
+            findPredecessors(i);
+            for (int l = 0; l < level; l++) {
+                if (header.prev[l] != header && lastPosition(l) >= i) {
+                    setLastPosition(l, lastPosition(l) + 1);
+                }
+            }
+            for (int l = 0; l < Math.max(level, height); l++) {
+                Node<E> pred = (l < level) ? preds[l] : header;
+                int position = (l < level) ? predPos[l] : -1;
+                Node<E> successor = pred.next[l];
+                if (l < height) {
+                    if (successor == header) {
+                        header.prev[l] = nodeRef;
+                        setLastPosition(l, i);
+                    } else {
+                        nodeRef.width[l] = position + span(pred, l) + 1 - i;
+                        successor.prev[l] = nodeRef;
+                    }
+                    nodeRef.next[l] = successor;
+                    nodeRef.prev[l] = pred;
+                    pred.next[l] = nodeRef;
+                    setSpan(pred, l, i - position);
+                } else if (successor != header) {
+                    setSpan(pred, l, span(pred, l) + 1);
+                }
+            }
+        }
+        level = Math.max(level, height);
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Helper method which unlinks the Node at a specified position
+     * @param i     the index of the Node to remove, in the range [0, size)
+     * @return      the data of the removed Node
+     */
+    private E unlinkAt(int i) {
+        Node<E> target;
+        if (i == 0) {
+            target = header.next[0];
+            shift++;    // every header span and last position shrinks by one
+            for (int l = 0; l < target.height(); l++) {
+                Node<E> successor = target.next[l];
+                header.next[l] = successor;
+                if (successor == header) {
+                    header.prev[l] = header;
+                } else {
+                    successor.prev[l] = header;
+                    setSpan(header, l, target.width[l]);
+                }
+            }
+        } else if (i == size - 1) {
+            target = header.prev[0];
+            for (int l = 0; l < target.height(); l++) {
+                Node<E> pred = target.prev[l];
+                pred.next[l] = header;
+                header.prev[l] = pred;
+                if (pred != header) {
+                    setLastPosition(l, i - span(pred, l));
+                }
+            }
+        } else {
+            findPredecessors(i);
+            target = preds[0].next[0];
+            for (int l = 0; l < level; l++) {
+                if (header.prev[l] != header && lastPosition(l) > i) {
+                    setLastPosition(l, lastPosition(l) - 1);
+                }
+            }
+            for (int l = 0; l < level; l++) {
+                Node<E> pred = preds[l];
+                if (pred.next[l] == target) {
+                    Node<E> successor = target.next[l];
+                    pred.next[l] = successor;
+                    if (successor == header) {
+                        header.prev[l] = pred;
+                        if (pred != header) {
+                            setLastPosition(l, predPos[l]);
+                        }
+                    } else {
+                        successor.prev[l] = pred;
+                        setSpan(pred, l, span(pred, l) + target.width[l] - 1);
+                    }
+                } else if (pred.next[l] != header) {
+                    setSpan(pred, l, span(pred, l) - 1);
+                }
+            }
+        }
+        while (level > 1 && header.next[level - 1] == header) {
+            level--;
+        }
+        size--;
+        modCount++;
+        return target.data;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public E get(int i) {
+        if(i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return node(i).data;
+    }
+
+    @Override
+    public E set(int i, E o) {
+        if(i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        Node<E> nodeRef = node(i);
+        E obj = nodeRef.data;
+        nodeRef.data = o;
+        return obj;
+    }
+
+    @Override
+    public boolean add(E o) {
+        linkAt(size, o);
+        return true;
+    }
+
+    @Override
+    public void add(int i, E o) {
+        if (i < 0 || i > size) {
+            throw new IndexOutOfBoundsException("Invalid index " + i);
+        }
+        linkAt(i, o);
+    }
+
+    @Override
+    public E remove(int i) {
+        if(i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        return unlinkAt(i);
+    }
+
+    @Override
+    public void clear() {
+        reset();
+        modCount++;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new SkipListIterator(0);
+    }
+
+    @Override
+    public ListIterator<E> listIterator() {
+        return new SkipListIterator(0);
+    }
+
+    @Override
+    public ListIterator<E> listIterator(int i) {
+        return new SkipListIterator(i);
+    }
+}
@@ -0,0 +1,436 @@
+package edu.miracosta.cs113;
+import java.util.*;
+
+/**
+ * UnrolledDoubleLinkedList.java : A double linked list which stores a small array of elements in each node instead of
+ * a single element. Compared to DoubleLinkedList this spreads the node header and prev/next references over many
+ * elements and follows one reference per block of elements rather than per element during traversal.
+ *
+ * @param <E>   generic type of the data to be stored in nodes
+ */
+public class UnrolledDoubleLinkedList<E> extends AbstractList<E> implements List<E> {
+    /** Number of elements a node holds unless another capacity is passed to the constructor */
+    public static final int DEFAULT_NODE_CAPACITY = 32;
+
+    // data fields
+    private final int nodeCapacity;
+    private Node<E> head;
+    private Node<E> tail;
+    private int size;
+    private int seekStart;  // index of the first element in the Node last returned by node(int)
+
+    /**
+     *  Default constructor that creates an empty UnrolledDoubleLinkedList with the default node capacity
+     */
+    public UnrolledDoubleLinkedList() {
+        this(DEFAULT_NODE_CAPACITY);
+    }
+
+    /**
+     * Constructor that creates an empty UnrolledDoubleLinkedList whose nodes hold up to a specified number of elements
+     * @param nodeCapacity  the number of elements stored per node, must be at least 2
+     */
+    public UnrolledDoubleLinkedList(int nodeCapacity) {
+        if (nodeCapacity < 2) {
+            throw new IllegalArgumentException("Invalid node capacity " + nodeCapacity);
+        }
+        this.nodeCapacity = nodeCapacity;
+        head = null;
+        tail = null;
+        size = 0;
+    }
+
+    /**
+     * An inner class for creating Nodes in the UnrolledDoubleLinkedList which store a block of data, a reference to the
+     * previous node, and a reference to the next node
+     * @param <E>   generic type of the data to be stored
+     */
+    private static class Node<E> {
+        private Object[] data;
+        private int count = 0;
+        private Node<E> next = null;
+        private Node<E> prev = null;
+
+        /**
+         * Constructor that creates an empty Node instance
+         * @param capacity  the number of elements the new Node can store
+         */
+        private Node(int capacity) {
+            data = new Object[capacity];
+        }
+
+        /**
+         * Helper method which returns the element stored at a specified offset in this Node
+         * @param offset    the position of the element within this Node
+         * @return          the element at that offset
+         */
+        @SuppressWarnings("unchecked")
+        private E get(int offset) {
+            return (E) data[offset];
+        }
+    }
+
+    /**
+     * An inner class for creating a ListIterator which can traverse through the elements in UnrolledDoubleLinkedList
+     */
+    private class UnrolledListIterator implements ListIterator<E> {
+        // data fields
+        private Node<E> nextNode;       // Node holding the element returned by next(), null at the end of the list
+        private int nextOffset;
+        private int nodeStart;          // index of the first element in nextNode
+        private int index;
+        private Node<E> lastNode;       // Node holding the last element returned, null if there is none
+        private int lastOffset;
+        private int lastIndex;
+        private int expectedModCount;
+
+        /**
+         * Constructor which sets up a list iterator at a specified position
+         * @param i     the index position that the iterator will begin at
+         */
+        public UnrolledListIterator(int i) {
+            if (i < 0 || i > size) {
+                throw new IndexOutOfBoundsException("Invalid index " + i);
+            }
+            index = i;
+            if (i == size) {
+                nextNode = null;
+                nodeStart = size;
+                nextOffset = 0;
+            } else {
+                nextNode = node(i);
+                nodeStart = seekStart;
+                nextOffset = i - seekStart;
+            }
+            lastNode = null;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return (index < size);
+        }
+
+        @Override
+        public E next() {
+            checkForComodification();
+            if(!hasNext()) {
+                throw new NoSuchElementException("No next element");
+            }
+            lastNode = nextNode;
+            lastOffset = nextOffset;
+            lastIndex = index;
+            index++;
+            nextOffset++;
+            if (nextOffset == nextNode.count) {
+                nodeStart += nextNode.count;
+                nextNode = nextNode.next;
+                nextOffset = 0;
+            }
+            return lastNode.get(lastOffset);
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return (index > 0);
+        }
+
+        @Override
+        public E previous() {
+            checkForComodification();
+            if(!hasPrevious()) {
+                throw new NoSuchElementException("No previous element");
+            }
+            if (nextNode == null) {
+                nextNode = tail;
+                nodeStart = size - tail.count;
+                nextOffset = tail.count - 1;
+            } else if (nextOffset == 0) {
+                nextNode = nextNode.prev;
+                nodeStart -= nextNode.count;
+                nextOffset = nextNode.count - 1;
+            } else {
+                nextOffset--;
+            }
+            index--;
+            lastNode = nextNode;
+            lastOffset = nextOffset;
+            lastIndex = index;
+            return lastNode.get(lastOffset);
+        }
+
+        @Override
+        public int nextIndex() {
+            return index;
+        }
+
+        @Override
+        public int previousIndex() {
+            return index - 1;
+        }
+
+        @Override
+        public void remove() {
+            if(lastNode == null) {
+                throw new IllegalStateException("No last element returned");
+            }
+            checkForComodification();
+            int start = lastIndex - lastOffset;
+            Node<E> resume = removeAt(lastNode, lastOffset);
+            index = lastIndex;
+            seek(resume, start);
+            lastNode = null;
+            expectedModCount = modCount;
+        }
+
+        @Override
+        public void set(E o) {
+            if(lastNode == null) {
+                throw new IllegalStateException("No last element returned");
+            }
+            checkForComodification();
+            lastNode.data[lastOffset] = o;
+        }
+
+        @Override
+        public void add(E o) {
+            checkForComodification();
+            Node<E> nodeRef;
+            int start;
+            int offset;
+            if (nextNode == null) {     // adding to the end of the list
+                if (tail == null) {
+                    linkAfter(null, new Node<E>(nodeCapacity));
+                }
+                nodeRef = tail;
+                start = size - tail.count;
+                offset = tail.count;
+            } else {
+                nodeRef = nextNode;
+                start = nodeStart;
+                offset = nextOffset;
+            }
+            insertAt(nodeRef, offset, o);
+            index++;
+            seek(nodeRef, start);
+            lastNode = null;
+            expectedModCount = modCount;
+        }
+
+        /**
+         * Helper method which moves the iterator to its current index by walking forward from a Node whose starting
+         * index is known
+         * @param from      the Node to begin walking from, null if the iterator is at the end of the list
+         * @param start     the index of the first element in from
+         */
+        private void seek(Node<E> from, int start) {
+            while (from != null && index >= start + from.count) {
+                start += from.count;
+                from = from.next;
+            }
+            nextNode = from;
+            nodeStart = start;
+            nextOffset = (from == null) ? 0 : index - start;
+        }
+
+        /**
+         * Helper method which throws if the list was structurally modified other than through this iterator
+         */
+        private void checkForComodification() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+        }
+    }
+
+    /**
+     * Helper method which finds the Node holding a specified position, walking from whichever end of the list is
+     * closer, and records the index of its first element in seekStart
+     * @param i     the index of the element to find, must be in the range [0, size)
+     * @return      the Node holding position i
+     */
+    private Node<E> node(int i) {
+        Node<E> nodeRef;
+        int start;
+        if (i < (size >> 1)) {
+            nodeRef = head;
+            start = 0;
+            while (i >= start + nodeRef.count) {
+                start += nodeRef.count;
+                nodeRef = nodeRef.next;
+            }
+        } else {
+            nodeRef = tail;
+            start = size - tail.count;
+            while (i < start) {
+                nodeRef = nodeRef.prev;
+                start -= nodeRef.count;
+            }
+        }
+        seekStart = start;
+        return nodeRef;
+    }
+
+    /**
+     * Helper method which links a new Node into the list after a specified Node
+     * @param nodeRef   the Node to link after, null only if the list has no Nodes
+     * @param newNode   the Node to be linked
+     */
+    private void linkAfter(Node<E> nodeRef, Node<E> newNode) {
+        if (nodeRef == null) {
+            head = newNode;
+            tail = newNode;
+            return;
+        }
+        newNode.prev = nodeRef;
+        newNode.next = nodeRef.next;
+        if (nodeRef.next == null) {
+            tail = newNode;
+        } else {
+            nodeRef.next.prev = newNode;
+        }
+        nodeRef.next = newNode;
+    }
+
+    /**
+     * Helper method which unlinks an empty Node from the list
+     * @param nodeRef   the Node to be unlinked
+     */
+    private void unlink(Node<E> nodeRef) {
+        if (nodeRef.prev == null) {
+            head = nodeRef.next;
+        } else {
+            nodeRef.prev.next = nodeRef.next;
+        }
+        if (nodeRef.next == null) {
+            tail = nodeRef.prev;
+        } else {
+            nodeRef.next.prev = nodeRef.prev;
+        }
+    }
+
+    /**
+     * Helper method which inserts an element into a Node. A full Node is split in half first, except when appending to
+     * the tail, where a fresh Node is started so that sequential appends leave every Node full.
+     * @param nodeRef   the Node to insert into
+     * @param offset    the position within nodeRef that the element will occupy
+     * @param o         the element to be inserted
+     */
+    private void insertAt(Node<E> nodeRef, int offset, E o) {
+        if (nodeRef.count == nodeCapacity) {
+            Node<E> newNode = new Node<E>(nodeCapacity);
+            if (nodeRef == tail && offset == nodeRef.count) {
+                linkAfter(nodeRef, newNode);
+                nodeRef = newNode;
+                offset = 0;
+            } else {
+                int half = nodeCapacity >> 1;
+                newNode.count = nodeRef.count - half;
+                System.arraycopy(nodeRef.data, half, newNode.data, 0, newNode.count);
+                Arrays.fill(nodeRef.data, half, nodeRef.count, null);
+                nodeRef.count = half;
+                linkAfter(nodeRef, newNode);
+                if (offset > half) {
+                    nodeRef = newNode;
+                    offset -= half;
+                }
+            }
+        }
+        System.arraycopy(nodeRef.data, offset, nodeRef.data, offset + 1, nodeRef.count - offset);
+        nodeRef.data[offset] = o;
+        nodeRef.count++;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Helper method which removes an element from a Node, unlinking the Node once it is empty and merging it with its
+     * successor once both fit comfortably in a single Node
+     * @param nodeRef   the Node to remove from
+     * @param offset    the position of the element within nodeRef
+     * @return          the Node that now holds the elements which followed the removed one, nodeRef itself unless it
+     *                  was unlinked
+     */
+    private Node<E> removeAt(Node<E> nodeRef, int offset) {
+        nodeRef.count--;
+        System.arraycopy(nodeRef.data, offset + 1, nodeRef.data, offset, nodeRef.count - offset);
+        nodeRef.data[nodeRef.count] = null;
+        size--;
+        modCount++;
+        if (nodeRef.count == 0) {
+            unlink(nodeRef);
+            return nodeRef.next;
+        }
+        Node<E> nextRef = nodeRef.next;
+        if (nextRef != null && nodeRef.count + nextRef.count <= nodeCapacity - (nodeCapacity >> 2)) {
+            System.arraycopy(nextRef.data, 0, nodeRef.data, nodeRef.count, nextRef.count);
+            nodeRef.count += nextRef.count;
+            unlink(nextRef);
+        }
+        return nodeRef;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public E get(int i) {
+        if(i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        Node<E> nodeRef = node(i);
+        return nodeRef.get(i - seekStart);
+    }
+
+    @Override
+    public E set(int i, E o) {
+        if(i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        Node<E> nodeRef = node(i);
+        E obj = nodeRef.get(i - seekStart);
+        nodeRef.data[i - seekStart] = o;
+        return obj;
+    }
+
+    @Override
+    public void add(int i, E obj) {
+        listIterator(i).add(obj);
+    }
+
+    @Override
+    public E remove(int i) {
+        if(i < 0 || i >= size) {
+            throw new IndexOutOfBoundsException();
+        }
+        ListIterator<E> iteratorRef = listIterator(i);
+        E obj = iteratorRef.next();
+        iteratorRef.remove();
+        return obj;
+    }
+
+    @Override
+    public void clear() {
+        head = null;
+        tail = null;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new UnrolledListIterator(0);
+    }
+
+    @Override
+    public ListIterator<E> listIterator() {
+        return new UnrolledListIterator(0);
+    }
+
+    @Override
+    public ListIterator<E> listIterator(int i) {
+        return new UnrolledListIterator(i);
+    }
+}
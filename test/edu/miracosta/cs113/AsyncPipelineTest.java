@@ -0,0 +1,228 @@
+package edu.miracosta.cs113;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.junit.Assert.*;
+
+/**
+ * AsyncPipelineTest : Test class for the AsyncPipeline implementation, checking delivery order, backpressure and
+ * failure reporting on virtual and platform consumer threads.
+ */
+public class AsyncPipelineTest {
+
+    /** Number of items submitted by the larger tests */
+    private static final int NUM_ITEMS = 2000;
+
+    /**
+     * Returns a task which squares its item after a short random pause, so that items finish out of order
+     * @return      the task
+     */
+    private static Function<Integer, Long> slowSquare() {
+        return new Function<Integer, Long>() {
+            @Override
+            public Long apply(Integer item) {
+                if (item % 7 == 0) {
+                    try {
+                        Thread.sleep(new Random(item).nextInt(3));
+                    } catch (InterruptedException ie) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return (long) item * item;
+            }
+        };
+    }
+
+    /**
+     * Returns a sink which adds each result to a list; the pipeline delivers one result at a time
+     * @param results   the list the results are added to
+     * @return          the sink
+     */
+    private static Consumer<Long> collectInto(final List<Long> results) {
+        return new Consumer<Long>() {
+            @Override
+            public void accept(Long result) {
+                results.add(result);
+            }
+        };
+    }
+
+    @Test
+    public void testOrderedDelivery() throws InterruptedException {
+        List<Long> results = new ArrayList<Long>();
+        DoubleLinkedList<Integer> source = new DoubleLinkedList<Integer>();
+        for (int i = 0; i < NUM_ITEMS; i ++) {
+            source.addLast(i);
+        }
+        AsyncPipeline<Integer, Long> pipeline = new AsyncPipeline<Integer, Long>(slowSquare(), collectInto(results), 16, 64, true);
+        assertEquals("submitAll() should submit every element", NUM_ITEMS, pipeline.submitAll(source));
+        assertTrue("submitAll() should drain the source", source.isEmpty());
+        pipeline.close();
+
+        assertEquals("Every result should be delivered", NUM_ITEMS, results.size());
+        for (int i = 0; i < NUM_ITEMS; i ++) {
+            assertEquals("Ordered pipeline should deliver in submission order", (long) i * i, (long) results.get(i));
+        }
+    }
+
+    @Test
+    public void testUnorderedDeliveryOnPlatformThreads() throws InterruptedException {
+        List<Long> results = new ArrayList<Long>();
+        AsyncPipeline<Integer, Long> pipeline = new AsyncPipeline<Integer, Long>(slowSquare(), collectInto(results), 4, 16,
+                false, Executors.defaultThreadFactory());
+        for (int i = 0; i < NUM_ITEMS; i ++) {
+            pipeline.submit(i);
+        }
+        pipeline.close();
+
+        Set<Long> seen = new HashSet<Long>(results);
+        assertEquals("Every result should be delivered exactly once", NUM_ITEMS, results.size());
+        assertEquals("Every result should be distinct", NUM_ITEMS, seen.size());
+        List<Long> sorted = new ArrayList<Long>(results);
+        Collections.sort(sorted);
+        assertEquals("Largest result should be the last item squared", (long) (NUM_ITEMS - 1) * (NUM_ITEMS - 1), (long) sorted.get(NUM_ITEMS - 1));
+        try {
+            pipeline.submit(0);
+            fail("submit() should have thrown exception after close()");
+        } catch (IllegalStateException ise) { /*Test Passed*/ }
+        DoubleLinkedList<Integer> rejected = new DoubleLinkedList<Integer>();
+        rejected.addLast(1);
+        try {
+            pipeline.submitAll(rejected);
+            fail("submitAll() should have thrown exception after close()");
+        } catch (IllegalStateException ise) { /*Test Passed*/ }
+        assertEquals("submitAll() should leave an item it could not submit in the source", 1, rejected.size());
+    }
+
+    @Test
+    public void testBackpressure() throws InterruptedException {
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger started = new AtomicInteger(0);
+        Function<Integer, Integer> blocked = new Function<Integer, Integer>() {
+            @Override
+            public Integer apply(Integer item) {
+                started.incrementAndGet();
+                try {
+                    release.await();
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+                return item;
+            }
+        };
+        final List<Integer> results = Collections.synchronizedList(new ArrayList<Integer>());
+        final AsyncPipeline<Integer, Integer> pipeline = new AsyncPipeline<Integer, Integer>(blocked, new Consumer<Integer>() {
+            @Override
+            public void accept(Integer result) {
+                results.add(result);
+            }
+        }, 2, 3, true);
+        final CountDownLatch submitted = new CountDownLatch(1);
+        Thread producer = Thread.ofVirtual().start(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    for (int i = 0; i < 4; i ++) {
+                        pipeline.submit(i);
+                    }
+                    submitted.countDown();
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        assertFalse("submit() should block once capacity items are in the pipeline", submitted.await(200, TimeUnit.MILLISECONDS));
+        assertEquals("Only parallelism items should be running", 2, started.get());
+        release.countDown();
+        assertTrue("submit() should continue once results are delivered", submitted.await(5, TimeUnit.SECONDS));
+        producer.join();
+        pipeline.close();
+        assertEquals("Every result should be delivered in order", Arrays.asList(0, 1, 2, 3), results);
+    }
+
+    @Test
+    public void testFailureIsReported() throws InterruptedException {
+        List<Long> results = new ArrayList<Long>();
+        AsyncPipeline<Integer, Long> pipeline = new AsyncPipeline<Integer, Long>(new Function<Integer, Long>() {
+            @Override
+            public Long apply(Integer item) {
+                if (item == 5) {
+                    throw new ArithmeticException("bad item");
+                }
+                return (long) item;
+            }
+        }, collectInto(results), 3, 8, true);
+        for (int i = 0; i < 10; i ++) {
+            pipeline.submit(i);
+        }
+        try {
+            pipeline.close();
+            fail("close() should have thrown exception for a failed task");
+        } catch (IllegalStateException ise) {
+            assertTrue("close() should report the task's exception", ise.getCause() instanceof ArithmeticException);
+        }
+        assertEquals("Other results should still be delivered in order", 9, results.size());
+        assertEquals("Failed item should be skipped", new Long(6), results.get(5));
+
+        try {
+            new AsyncPipeline<Integer, Long>(slowSquare(), collectInto(results), 0, 8, true);
+            fail("Constructor should have thrown exception for a parallelism below 1");
+        } catch (IllegalArgumentException iae) { /*Test Passed*/ }
+    }
+
+    @Test
+    public void testErrorIsReported() throws InterruptedException {
+        final List<Integer> results = Collections.synchronizedList(new ArrayList<Integer>());
+        final AsyncPipeline<Integer, Integer> pipeline = new AsyncPipeline<Integer, Integer>(new Function<Integer, Integer>() {
+            @Override
+            public Integer apply(Integer item) {
+                if (item == 3) {
+                    throw new AssertionError("bad item");
+                }
+                return item;
+            }
+        }, new Consumer<Integer>() {
+            @Override
+            public void accept(Integer result) {
+                results.add(result);
+            }
+        }, 1, 2, true);
+        final CountDownLatch submitted = new CountDownLatch(1);
+        Thread producer = Thread.ofVirtual().start(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    for (int i = 0; i < 10; i ++) {
+                        pipeline.submit(i);
+                    }
+                    submitted.countDown();
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        assertTrue("An Error should not keep the failed item's place in the pipeline", submitted.await(5, TimeUnit.SECONDS));
+        producer.join();
+        try {
+            pipeline.close();
+            fail("close() should have thrown exception for a task which threw an Error");
+        } catch (IllegalStateException ise) {
+            assertTrue("close() should report the task's Error", ise.getCause() instanceof AssertionError);
+        }
+        assertEquals("Other results should still be delivered in order", Arrays.asList(0, 1, 2, 4, 5, 6, 7, 8, 9), results);
+    }
+}
@@ -0,0 +1,215 @@
+package edu.miracosta.cs113;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * BlockingDoubleLinkedQueueTest : Test class for the BlockingDoubleLinkedQueue implementation, checked against
+ * java.util.ArrayDeque on a single thread and for lost or repeated elements under concurrent producers and consumers.
+ */
+public class BlockingDoubleLinkedQueueTest {
+
+    /** Capacity used by the queue under test */
+    private static final int CAPACITY = 8;
+
+    /** Number of threads on each side and elements per producer used by the concurrent test */
+    private static final int NUM_THREADS = 4;
+    private static final int NUM_OPERATIONS = 20000;
+
+    private BlockingDoubleLinkedQueue<Integer> queue;
+
+    /**
+     * Creates an empty BlockingDoubleLinkedQueue with a small capacity.
+     */
+    @Before
+    public void setUp() {
+        queue = new BlockingDoubleLinkedQueue<Integer>(CAPACITY);
+    }
+
+    @Test
+    public void testMatchesArrayDeque() {
+        Queue<Integer> expected = new ArrayDeque<Integer>();
+        Random random = new Random(113);
+        for (int i = 0; i < 5000; i ++) {
+            int operation = random.nextInt(5);
+            if (operation < 2) {
+                boolean accepted = expected.size() < CAPACITY && expected.offer(i);
+                assertEquals("offer() should accept only below capacity", accepted, queue.offer(i));
+            } else if (operation == 2) {
+                assertEquals("poll() doesn't match", expected.poll(), queue.poll());
+            } else if (operation == 3) {
+                assertEquals("peek() doesn't match", expected.peek(), queue.peek());
+            } else {
+                Integer value = i - random.nextInt(10);
+                assertEquals("remove(Object) doesn't match", expected.remove(value), queue.remove(value));
+            }
+            assertEquals("Queue should have size of " + expected.size(), expected.size(), queue.size());
+            assertEquals("remainingCapacity() should match size", CAPACITY - expected.size(), queue.remainingCapacity());
+        }
+        assertEquals("Queue contents don't match", new ArrayList<Integer>(expected), Arrays.asList(queue.toArray()));
+
+        queue.clear();
+        assertNull("poll() should return null after clear()", queue.poll());
+        assertTrue("Queue should accept elements after clear()", queue.offer(1));
+    }
+
+    @Test
+    public void testBoundsAndTimeouts() throws InterruptedException {
+        for (int i = 0; i < CAPACITY; i ++) {
+            queue.put(i);
+        }
+        assertFalse("offer() should reject when full", queue.offer(CAPACITY));
+        assertFalse("Timed offer() should give up when full", queue.offer(CAPACITY, 10, TimeUnit.MILLISECONDS));
+
+        List<Integer> batch = new ArrayList<Integer>();
+        assertEquals("drainTo() should move at most max elements", 3, queue.drainTo(batch, 3));
+        assertEquals("drainTo() should move elements from the head in order", Arrays.asList(0, 1, 2), batch);
+        assertEquals("drainTo() should free capacity", 3, queue.remainingCapacity());
+        queue.put(CAPACITY);
+        assertEquals("drainTo() without max should move everything", CAPACITY - 2, queue.drainTo(batch));
+        assertEquals("drainTo() should leave the queue empty", 0, queue.size());
+        assertEquals("Batch should hold every element once", CAPACITY + 1, batch.size());
+        assertNull("Timed poll() should give up when empty", queue.poll(10, TimeUnit.MILLISECONDS));
+        assertEquals("drainTo() of an empty queue should move nothing", 0, queue.drainTo(batch, 5));
+
+        queue.offer(7);
+        assertEquals("take() should return the only element", new Integer(7), queue.take());
+        try {
+            queue.drainTo(queue);
+            fail("drainTo() should have thrown exception for draining into itself");
+        } catch (IllegalArgumentException iae) { /*Test Passed*/ }
+        try {
+            queue.offer(null);
+            fail("offer() should have thrown exception for a null element");
+        } catch (NullPointerException npe) { /*Test Passed*/ }
+    }
+
+    @Test
+    public void testDrainToFailingCollection() throws InterruptedException {
+        for (int i = 0; i < CAPACITY; i ++) {
+            queue.put(i);
+        }
+        final List<Integer> batch = new ArrayList<Integer>();
+        final Integer[] polled = new Integer[1];
+        try {
+            queue.drainTo(new ArrayList<Integer>() {
+                @Override
+                public boolean add(Integer value) {
+                    if (value == 0) {
+                        // another consumer must be able to take from the queue while the batch is handed over
+                        Thread consumer = new Thread(new Runnable() {
+                            @Override
+                            public void run() {
+                                polled[0] = queue.poll();
+                            }
+                        });
+                        consumer.start();
+                        try {
+                            consumer.join(5000);
+                        } catch (InterruptedException ie) {
+                            Thread.currentThread().interrupt();
+                        }
+                    }
+                    if (value == 3) {
+                        throw new IllegalStateException();
+                    }
+                    return batch.add(value);
+                }
+            }, 5);
+            fail("drainTo() should have passed on the collection's exception");
+        } catch (IllegalStateException ise) { /*Test Passed*/ }
+        assertEquals("Other consumers should not wait for drainTo() to hand over its batch", new Integer(5), polled[0]);
+        assertEquals("Collection should keep the elements it accepted", Arrays.asList(0, 1, 2), batch);
+        assertEquals("Elements not accepted should go back to the head in order", Arrays.asList(3, 4, 6, 7),
+                Arrays.asList(queue.toArray()));
+        assertEquals("Size should count the elements put back", 4, queue.size());
+        assertEquals("take() should resume from the restored head", new Integer(3), queue.take());
+        queue.clear();
+        queue.put(9);
+        assertEquals("Queue should still work once emptied", new Integer(9), queue.poll());
+    }
+
+    @Test
+    public void testConcurrentProducersAndConsumers() throws InterruptedException {
+        final ConcurrentLinkedQueue<Integer> consumed = new ConcurrentLinkedQueue<Integer>();
+        List<Thread> producers = new ArrayList<Thread>();
+        List<Thread> consumers = new ArrayList<Thread>();
+        for (int t = 0; t < NUM_THREADS; t ++) {
+            final int base = t * NUM_OPERATIONS;
+            Thread producer = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        for (int i = 0; i < NUM_OPERATIONS; i ++) {
+                            queue.put(base + i);
+                        }
+                    } catch (InterruptedException ie) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+            final boolean batched = (t & 1) == 0;
+            Thread consumer = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    List<Integer> batch = new ArrayList<Integer>();
+                    try {
+                        while (true) {
+                            Integer value = queue.take();
+                            if (value < 0) {
+                                return;
+                            }
+                            consumed.add(value);
+                            if (batched) {
+                                batch.clear();
+                                queue.drainTo(batch, CAPACITY / 2);
+                                for (Integer drained : batch) {
+                                    if (drained < 0) {
+                                        queue.put(drained);     // leave the stop signal for this or another consumer
+                                    } else {
+                                        consumed.add(drained);
+                                    }
+                                }
+                            }
+                        }
+                    } catch (InterruptedException ie) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            });
+            producers.add(producer);
+            consumers.add(consumer);
+            producer.start();
+            consumer.start();
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        for (int t = 0; t < NUM_THREADS; t ++) {
+            queue.put(-1);
+        }
+        for (Thread consumer : consumers) {
+            consumer.join();
+        }
+
+        Set<Integer> seen = new HashSet<Integer>();
+        for (Integer value : consumed) {
+            assertTrue("Value " + value + " was consumed more than once", seen.add(value));
+        }
+        assertEquals("Every produced value should be consumed", NUM_THREADS * NUM_OPERATIONS, seen.size());
+        assertEquals("Queue should be empty once every consumer has stopped", 0, queue.size());
+    }
+}
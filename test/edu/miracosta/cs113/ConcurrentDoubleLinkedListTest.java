@@ -0,0 +1,175 @@
+package edu.miracosta.cs113;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+/**
+ * ConcurrentDoubleLinkedListTest : Test class for the ConcurrentDoubleLinkedList implementation, covering deque
+ * behaviour on a single thread and element conservation under concurrent pushes and pops.
+ */
+public class ConcurrentDoubleLinkedListTest {
+
+    /** Number of threads and operations per thread used by the concurrent test */
+    private static final int NUM_THREADS = 8;
+    private static final int NUM_OPERATIONS = 20000;
+
+    private ConcurrentDoubleLinkedList<Integer> intList;
+
+    /**
+     * Creates an empty ConcurrentDoubleLinkedList.
+     */
+    @Before
+    public void setUp() {
+        intList = new ConcurrentDoubleLinkedList<Integer>();
+    }
+
+    @Test
+    public void testDequeOperations() {
+        assertTrue("Concurrent list should start as empty", intList.isEmpty());
+        assertNull("pollFirst() should return null on an empty list", intList.pollFirst());
+        assertNull("pollLast() should return null on an empty list", intList.pollLast());
+
+        intList.addLast(2);
+        intList.addLast(3);
+        intList.addFirst(1);
+        intList.addFirst(0);
+        assertEquals("Concurrent list should have size of 4", 4, intList.size());
+        assertEquals("Concurrent list toString doesn't match", "[0, 1, 2, 3]", intList.toString());
+        assertEquals("peekFirst() doesn't match", new Integer(0), intList.peekFirst());
+        assertEquals("peekLast() doesn't match", new Integer(3), intList.peekLast());
+
+        assertEquals("pollLast() doesn't match", new Integer(3), intList.pollLast());
+        assertEquals("pollFirst() doesn't match", new Integer(0), intList.pollFirst());
+        assertEquals("pollLast() doesn't match", new Integer(2), intList.pollLast());
+        intList.addLast(4);
+        assertEquals("pollFirst() doesn't match", new Integer(1), intList.pollFirst());
+        assertEquals("pollFirst() doesn't match", new Integer(4), intList.pollFirst());
+        assertTrue("Concurrent list should be empty", intList.isEmpty());
+
+        try {
+            intList.addFirst(null);
+            fail("addFirst() should have thrown exception for a null element");
+        } catch (NullPointerException npe) { /*Test Passed*/ }
+    }
+
+    @Test
+    public void testIteratorIsWeaklyConsistent() {
+        for (int i = 0; i < 5; i ++) {
+            intList.addLast(i);
+        }
+        Iterator<Integer> iterator = intList.iterator();
+        assertEquals("Iterator next() doesn't match", new Integer(0), iterator.next());
+        intList.pollLast();
+        intList.addFirst(-1);
+        while (iterator.hasNext()) {
+            iterator.next();    // must neither fail nor loop forever
+        }
+        assertEquals("Concurrent list toString doesn't match", "[-1, 0, 1, 2, 3]", intList.toString());
+    }
+
+    @Test
+    public void testConcurrentPushAndPoll() throws InterruptedException {
+        final ConcurrentLinkedQueue<Integer> polled = new ConcurrentLinkedQueue<Integer>();
+        final CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<Thread>();
+        for (int t = 0; t < NUM_THREADS; t ++) {
+            final int base = t * NUM_OPERATIONS;
+            Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                    } catch (InterruptedException ie) {
+                        return;
+                    }
+                    for (int i = 0; i < NUM_OPERATIONS; i ++) {
+                        int value = base + i;
+                        if ((value & 1) == 0) {
+                            intList.addFirst(value);
+                        } else {
+                            intList.addLast(value);
+                        }
+                        Integer result = ((value & 2) == 0) ? intList.pollFirst() : intList.pollLast();
+                        if (result != null && (value % 3) != 0) {
+                            polled.add(result);
+                        } else if (result != null) {
+                            intList.addLast(result);
+                        }
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Every pushed value must be either polled exactly once or still in the list exactly once
+        Set<Integer> seen = new HashSet<Integer>();
+        for (Integer value : polled) {
+            assertTrue("Value " + value + " was polled more than once", seen.add(value));
+        }
+        Integer value;
+        while ((value = intList.pollFirst()) != null) {
+            assertTrue("Value " + value + " was both polled and left in the list", seen.add(value));
+        }
+        assertEquals("Every pushed value should be accounted for", NUM_THREADS * NUM_OPERATIONS, seen.size());
+    }
+
+    @Test
+    public void testConcurrentQueueChurn() throws InterruptedException {
+        final AtomicInteger polled = new AtomicInteger();
+        final AtomicReference<Throwable> failure = new AtomicReference<Throwable>();
+        final CountDownLatch start = new CountDownLatch(1);
+        intList.addLast(-1);
+        List<Thread> threads = new ArrayList<Thread>();
+        for (int t = 0; t < NUM_THREADS; t ++) {
+            final int base = t * NUM_OPERATIONS;
+            Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        start.await();
+                        for (int i = 0; i < NUM_OPERATIONS; i ++) {
+                            intList.addLast(base + i);
+                            if (intList.pollFirst() != null) {
+                                polled.incrementAndGet();
+                            }
+                        }
+                    } catch (Throwable th) {
+                        failure.compareAndSet(null, th);
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Pushes at the tail racing pops at the head must neither throw nor lose an element
+        assertNull("Queue operations should not throw", failure.get());
+        int remaining = 0;
+        while (intList.pollFirst() != null) {
+            remaining++;
+        }
+        assertEquals("Every pushed value should be accounted for", NUM_THREADS * NUM_OPERATIONS + 1,
+                polled.get() + remaining);
+    }
+}
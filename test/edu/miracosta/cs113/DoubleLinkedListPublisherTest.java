@@ -0,0 +1,208 @@
+package edu.miracosta.cs113;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static org.junit.Assert.*;
+
+/**
+ * DoubleLinkedListPublisherTest : Test class for the DoubleLinkedListPublisher implementation, replaying the published
+ * changes onto a copy of the list and checking that a slow subscriber holds back the writer.
+ */
+public class DoubleLinkedListPublisherTest {
+
+    /**
+     * A subscriber which applies each change to its own copy of the list, requesting a few changes at a time
+     */
+    private static class Mirror implements Flow.Subscriber<DoubleLinkedListPublisher.Change<Integer>> {
+        private final List<Integer> copy = new ArrayList<Integer>();
+        private final CountDownLatch done = new CountDownLatch(1);
+        private final AtomicInteger received = new AtomicInteger(0);
+        private final int batch;
+        private Flow.Subscription subscription;
+        private int outstanding;
+
+        private Mirror(int batch) {
+            this.batch = batch;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            outstanding = batch;
+            subscription.request(batch);
+        }
+
+        @Override
+        public void onNext(DoubleLinkedListPublisher.Change<Integer> change) {
+            switch (change.type()) {
+                case ADD:
+                    copy.add(change.index(), change.element());
+                    break;
+                case REMOVE:
+                    assertEquals("Removed element should match the copy", change.element(), copy.remove(change.index()));
+                    break;
+                case SET:
+                    copy.set(change.index(), change.element());
+                    break;
+                case CLEAR:
+                    copy.clear();
+                    break;
+            }
+            received.incrementAndGet();
+            if (--outstanding == 0) {
+                outstanding = batch;
+                subscription.request(batch);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            done.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            done.countDown();
+        }
+    }
+
+    @Test
+    public void testChangesReplayOntoCopy() throws InterruptedException {
+        DoubleLinkedList<Integer> list = new DoubleLinkedList<Integer>();
+        for (int i = 0; i < 10; i ++) {
+            list.add(i);
+        }
+        DoubleLinkedListPublisher<Integer> publisher = list.publisher();
+        assertSame("publisher() should return the same publisher until it is closed", publisher, list.publisher());
+        Mirror mirror = new Mirror(3);
+        publisher.subscribe(mirror);
+
+        ListIterator<Integer> iter = list.listIterator();
+        while (iter.hasNext()) {
+            int value = iter.next();
+            if (value % 3 == 0) {
+                iter.remove();
+            } else if (value % 3 == 1) {
+                iter.set(value * 10);
+            } else {
+                iter.add(-value);
+            }
+        }
+        list.addFirst(100);
+        list.removeLast();
+        list.subList(1, 3).clear();
+        list.moveToFront(list.lastHandle());
+        DoubleLinkedList<Integer> other = new DoubleLinkedList<Integer>();
+        other.addAll(Arrays.asList(7, 8, 9));
+        list.append(other);
+        list.removeIf(new Predicate<Integer>() {
+            @Override
+            public boolean test(Integer value) {
+                return value < 0;
+            }
+        });
+        list.sort(null);
+        List<Integer> expected = new ArrayList<Integer>(list);
+        publisher.close();
+
+        assertTrue("Subscriber should complete after close()", mirror.done.await(5, TimeUnit.SECONDS));
+        assertEquals("Replayed changes should rebuild the list", expected, mirror.copy);
+        assertNotSame("publisher() should replace a closed publisher", publisher, list.publisher());
+
+        Mirror late = new Mirror(1);
+        publisher.subscribe(late);
+        assertTrue("Subscribing to a closed publisher should complete straight away", late.done.await(5, TimeUnit.SECONDS));
+        assertEquals("Closed publisher should send nothing", 0, late.received.get());
+    }
+
+    @Test
+    public void testClearAndUnsubscribedLists() throws InterruptedException {
+        DoubleLinkedList<Integer> list = new DoubleLinkedList<Integer>(true);
+        list.addAll(Arrays.asList(1, 2, 3));
+        DoubleLinkedListPublisher<Integer> publisher = list.publisher();
+        assertFalse("Publisher without subscribers should be inactive", publisher.isActive());
+        Mirror mirror = new Mirror(2);
+        publisher.subscribe(mirror);
+        assertTrue("Publisher with a subscriber should be active", publisher.isActive());
+        list.clear();
+        list.add(4);
+        list.set(0, 5);
+        publisher.close();
+        assertTrue("Subscriber should complete after close()", mirror.done.await(5, TimeUnit.SECONDS));
+        assertEquals("Replayed changes should include the clear", Arrays.asList(5), mirror.copy);
+        assertEquals("Snapshot, clear, add and set should each be one change", 6, mirror.received.get());
+    }
+
+    @Test
+    public void testSlowSubscriberBlocksWriter() throws InterruptedException {
+        final DoubleLinkedList<Integer> list = new DoubleLinkedList<Integer>();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        DoubleLinkedListPublisher<Integer> publisher = new DoubleLinkedListPublisher<Integer>(list, executor, 2);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger received = new AtomicInteger(0);
+        final CountDownLatch done = new CountDownLatch(1);
+        publisher.subscribe(new Flow.Subscriber<DoubleLinkedListPublisher.Change<Integer>>() {
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(1);
+            }
+
+            @Override
+            public void onNext(DoubleLinkedListPublisher.Change<Integer> change) {
+                received.incrementAndGet();
+                try {
+                    release.await();
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                }
+                subscription.request(1);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                done.countDown();
+            }
+
+            @Override
+            public void onComplete() {
+                done.countDown();
+            }
+        });
+        final CountDownLatch written = new CountDownLatch(1);
+        final DoubleLinkedListPublisher<Integer> target = publisher;
+        Thread writer = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                for (int i = 0; i < 20; i ++) {
+                    target.publish(DoubleLinkedListPublisher.Type.ADD, i, i);
+                }
+                written.countDown();
+            }
+        });
+        writer.start();
+        assertFalse("Writer should block while the subscriber's buffer is full", written.await(200, TimeUnit.MILLISECONDS));
+        assertTrue("Subscriber should only be sent what it requested", received.get() <= 1);
+        release.countDown();
+        assertTrue("Writer should continue once the subscriber catches up", written.await(5, TimeUnit.SECONDS));
+        writer.join();
+        publisher.close();
+        assertTrue("Subscriber should complete after close()", done.await(5, TimeUnit.SECONDS));
+        assertEquals("Subscriber should receive every change", 20, received.get());
+        executor.shutdown();
+    }
+}
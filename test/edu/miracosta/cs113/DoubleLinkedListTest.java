@@ -3,12 +3,20 @@ package edu.miracosta.cs113;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Iterator;
 
+import java.util.ConcurrentModificationException;
 import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Spliterator;
+import java.util.function.Predicate;
 
 import static org.junit.Assert.*;
 
@@ -159,6 +167,23 @@ public class DoubleLinkedListTest {
         assertEquals("Double list expected toString doesn't match actual", TO_STRING_ADD3[3], doubleList.toString());
     }
 
+    @Test
+    public void testTruncatedToString() {
+        buildLists(5);
+        DoubleLinkedList<String> list = (DoubleLinkedList<String>) stringList;
+
+        assertEquals("toString(n) should show every element when the list has at most 2n elements", "[first, second, third, fourth, fifth]", list.toString(3));
+        assertEquals("toString(n) should elide the middle of the list", "[first, second, ..., fourth, fifth]", list.toString(2));
+        assertEquals("toString(n) should elide the middle of the list", "[first, ..., fifth]", list.toString(1));
+        assertEquals("toString(0) should elide every element of a non-empty list", "[...]", list.toString(0));
+        assertEquals("toString(0) of an empty list should match toString()", TO_STRING_EMPTY, new DoubleLinkedList<String>().toString(0));
+
+        try {
+            list.toString(-1);
+            fail("toString(n) should have thrown exception for a negative element count");
+        } catch (IllegalArgumentException iae) { /*Test Passed*/ }
+    }
+
     @Test
     public void testInsertingByToString() {
         buildLists(3);
@@ -273,6 +298,62 @@ public class DoubleLinkedListTest {
         } catch (IndexOutOfBoundsException ioobe) { /*Test Passed*/ }
     }
 
+    @Test
+    public void testPositionalAccessFromEitherEnd() {
+        List<Integer> expected = new LinkedList<Integer>();
+        for (int i = 0; i < 101; i ++) {
+            intList.add(i);
+            expected.add(i);
+        }
+
+        // Every index must resolve to the same element whether the seek starts at head or at tail
+        for (int i = 0; i < expected.size(); i ++) {
+            assertEquals("Expected value in Integer list doesn't match get() at index " + i, expected.get(i), intList.get(i));
+        }
+
+        // Modify positions in the back half of the list, which are reached by walking from tail
+        intList.set(99, INT_INSERT_VAL);
+        expected.set(99, INT_INSERT_VAL);
+        intList.add(100, INT_VALUES[0]);
+        expected.add(100, INT_VALUES[0]);
+        assertEquals("Expected removed value doesn't match remove() from your list", expected.remove(98), intList.remove(98));
+        assertEquals("Expected Integer list (java.util.LinkedList) and Actual Integer list (your implementation) don't match", expected, intList);
+
+        intIterator = intList.listIterator(expected.size() - 1);
+        assertEquals("Test failed - Iterator created near the end of the list must return the element at its index", expected.get(expected.size() - 1), intIterator.next());
+        assertEquals("Test failed - Iterator created near the end of the list must walk backward correctly", expected.get(expected.size() - 1), intIterator.previous());
+        assertEquals("Test failed - Iterator created near the end of the list must walk backward correctly", expected.get(expected.size() - 2), intIterator.previous());
+    }
+
+    @Test
+    public void testSequentialGetAcrossModifications() {
+        List<Integer> expected = new LinkedList<Integer>();
+        for (int i = 0; i < 50; i ++) {
+            intList.add(i);
+            expected.add(i);
+        }
+
+        // Forward and backward scans reuse the position of the previous get
+        for (int i = 0; i < expected.size(); i ++) {
+            assertEquals("Expected value in Integer list doesn't match get() on forward scan", expected.get(i), intList.get(i));
+        }
+        for (int i = expected.size() - 1; i >= 0; i --) {
+            assertEquals("Expected value in Integer list doesn't match get() on backward scan", expected.get(i), intList.get(i));
+        }
+
+        // Structural changes near the last accessed position must not leave a stale position behind
+        intList.get(20);
+        intList.add(10, INT_INSERT_VAL);
+        expected.add(10, INT_INSERT_VAL);
+        assertEquals("Expected value in Integer list doesn't match get() after insertion", expected.get(20), intList.get(20));
+        intList.remove(5);
+        expected.remove(5);
+        assertEquals("Expected value in Integer list doesn't match get() after removal", expected.get(20), intList.get(20));
+        intList.clear();
+        intList.add(INT_VALUES[0]);
+        assertEquals("Expected value in Integer list doesn't match get() after clear", new Integer(INT_VALUES[0]), intList.get(0));
+    }
+
     @Test
     public void testIndexOf() {
         buildLists(4);
@@ -488,6 +569,626 @@ public class DoubleLinkedListTest {
         } catch (IndexOutOfBoundsException ioobe) { /*Test Passed*/ }
     }
 
+    @Test
+    public void testAddAll() {
+        buildLists(3);
+        List<String> stringListJava = new LinkedList<String>();
+        for (int i = 0; i < 3; i ++) {
+            stringListJava.add(STRING_VALUES[i]);
+        }
+        List<String> insertValues = new LinkedList<String>();
+        insertValues.add(STRING_VALUES[3]);
+        insertValues.add(STRING_VALUES[4]);
+
+        // Append to the end, insert at the head and in the middle
+        assertTrue("addAll() should report a change when appending elements", stringList.addAll(insertValues));
+        stringListJava.addAll(insertValues);
+        assertTrue("addAll() should report a change when inserting at the head", stringList.addAll(0, insertValues));
+        stringListJava.addAll(0, insertValues);
+        assertTrue("addAll() should report a change when inserting in the middle", stringList.addAll(4, insertValues));
+        stringListJava.addAll(4, insertValues);
+        assertEquals("Expected String list (java.util.LinkedList) and Actual String list (your implementation) don't match", stringListJava, stringList);
+        assertEquals("String list should have size of " + stringListJava.size(), stringListJava.size(), stringList.size());
+        assertEquals("Last element of String list doesn't match after addAll()", STRING_VALUES[4], stringList.get(stringList.size() - 1));
+
+        // Walk backward across the spliced Nodes to check their prev references
+        stringIterator = stringList.listIterator(stringList.size());
+        ListIterator<String> javaIterator = stringListJava.listIterator(stringListJava.size());
+        while (javaIterator.hasPrevious()) {
+            assertEquals("Test failed - previous() doesn't match after addAll()", javaIterator.previous(), stringIterator.previous());
+        }
+
+        // Adding to an empty list and adding an empty collection
+        intList.clear();
+        charList.clear();
+        assertTrue("addAll() should report a change when adding to an empty list", intList.addAll(Arrays.asList(INT_VALUES[0], INT_VALUES[1])));
+        assertEquals("Integer list should have size of 2", 2, intList.size());
+        assertFalse("addAll() should not report a change when adding an empty collection", intList.addAll(new LinkedList<Integer>()));
+
+        try {
+            charList.addAll(1, new LinkedList<Character>());
+            fail("Character list addAll() test should have thrown exception for out of bounds (empty list, index == 1)");
+        } catch (IndexOutOfBoundsException ioobe) { /*Test Passed*/ }
+    }
+
+    @Test
+    public void testToArray() {
+        buildLists(5);
+
+        assertArrayEquals("String list toArray() doesn't match the values added", STRING_VALUES, stringList.toArray());
+        assertEquals("Empty list toArray() should return an empty array", 0, new DoubleLinkedList<String>().toArray().length);
+
+        // Array too small - a new array of the same runtime type must be allocated
+        String[] small = new String[2];
+        String[] result = stringList.toArray(small);
+        assertNotSame("toArray(T[]) should allocate a new array when the passed array is too small", small, result);
+        assertArrayEquals("String list toArray(T[]) doesn't match the values added", STRING_VALUES, result);
+
+        // Array large enough - it must be reused and null-terminated
+        String[] large = {"a", "b", "c", "d", "e", "f", "g"};
+        result = stringList.toArray(large);
+        assertSame("toArray(T[]) should reuse the passed array when it is large enough", large, result);
+        assertNull("toArray(T[]) should set the element following the list's elements to null", large[5]);
+        assertEquals("toArray(T[]) should leave elements past the terminator untouched", "g", large[6]);
+
+        // Copying through arrays must see every element
+        List<Integer> copy = new ArrayList<Integer>(intList);
+        assertEquals("Integer list copied through toArray() should have size of 5", 5, copy.size());
+        assertEquals("Integer list copied through toArray() doesn't match", new Integer(INT_VALUES[4]), copy.get(4));
+    }
+
+    @Test
+    public void testSpliterator() {
+        for (int i = 0; i < 1000; i ++) {
+            intList.add(i);
+        }
+
+        Spliterator<Integer> spliterator = intList.spliterator();
+        assertTrue("Spliterator should report SIZED", spliterator.hasCharacteristics(Spliterator.SIZED));
+        assertTrue("Spliterator should report SUBSIZED", spliterator.hasCharacteristics(Spliterator.SUBSIZED));
+        assertTrue("Spliterator should report ORDERED", spliterator.hasCharacteristics(Spliterator.ORDERED));
+        assertEquals("Spliterator should know the size of the list", 1000, spliterator.estimateSize());
+
+        // A split must hand over an exact prefix and keep the rest
+        Spliterator<Integer> prefix = spliterator.trySplit();
+        assertEquals("Split prefix should cover half of the list", 500, prefix.estimateSize());
+        assertEquals("Split remainder should cover half of the list", 500, spliterator.estimateSize());
+        final int[] next = {0};
+        prefix.forEachRemaining(value -> assertEquals("Prefix doesn't return elements in order", next[0]++, (int) value));
+        spliterator.forEachRemaining(value -> assertEquals("Remainder doesn't return elements in order", next[0]++, (int) value));
+        assertEquals("Prefix and remainder should cover the whole list", 1000, next[0]);
+
+        assertEquals("Parallel stream sum doesn't match", 999 * 1000 / 2, intList.parallelStream().mapToInt(Integer::intValue).sum());
+        assertEquals("Parallel stream should keep encounter order", 0, (int) intList.parallelStream().filter(value -> value % 7 == 0).findFirst().get());
+        assertEquals("Empty list spliterator should not split", null, new DoubleLinkedList<Integer>().spliterator().trySplit());
+
+        spliterator = intList.spliterator();
+        intList.add(INT_INSERT_VAL);
+        try {
+            spliterator.forEachRemaining(value -> { });
+            fail("Spliterator should have thrown exception after the list was modified");
+        } catch (ConcurrentModificationException cme) { /*Test Passed*/ }
+    }
+
+    @Test
+    public void testIndexedLookups() {
+        DoubleLinkedList<Integer> indexedList = new DoubleLinkedList<Integer>(true);
+        List<Integer> expected = new LinkedList<Integer>();
+        Random random = new Random(113);
+
+        // Small value range so that repeated elements are common
+        for (int i = 0; i < 2000; i ++) {
+            Integer value = random.nextInt(50);
+            int operation = random.nextInt(6);
+            if (operation < 2 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                indexedList.add(index, value);
+                expected.add(index, value);
+            } else if (operation == 2) {
+                assertEquals("Indexed remove(Object) doesn't match", expected.remove(value), indexedList.remove(value));
+            } else if (operation == 3) {
+                int index = random.nextInt(expected.size());
+                assertEquals("Indexed set() doesn't match", expected.set(index, value), indexedList.set(index, value));
+            } else if (operation == 4) {
+                int index = random.nextInt(expected.size());
+                assertEquals("Indexed remove(int) doesn't match", expected.remove(index), indexedList.remove(index));
+            } else {
+                assertEquals("Indexed contains() doesn't match for " + value, expected.contains(value), indexedList.contains(value));
+                assertEquals("Indexed indexOf() doesn't match for " + value, expected.indexOf(value), indexedList.indexOf(value));
+                assertEquals("Indexed lastIndexOf() doesn't match for " + value, expected.lastIndexOf(value), indexedList.lastIndexOf(value));
+            }
+        }
+        assertEquals("Expected Integer list (java.util.LinkedList) and Actual Integer list (indexed) don't match", expected, indexedList);
+
+        // Changes through an iterator and bulk adds must keep the index in step
+        ListIterator<Integer> iterator = indexedList.listIterator();
+        iterator.next();
+        iterator.set(INT_INSERT_VAL);
+        assertEquals("Indexed indexOf() doesn't see a value set through the iterator", 0, indexedList.indexOf(INT_INSERT_VAL));
+        indexedList.addAll(Arrays.asList(INT_VALUES[0], INT_VALUES[1]));
+        assertEquals("Indexed lastIndexOf() doesn't see a value added by addAll()", indexedList.size() - 1, indexedList.lastIndexOf(INT_VALUES[1]));
+        indexedList.clear();
+        assertFalse("Indexed contains() should be false after clear()", indexedList.contains(INT_INSERT_VAL));
+        assertEquals("Indexed indexOf() should be -1 after clear()", -1, indexedList.indexOf(INT_VALUES[0]));
+    }
+
+    @Test
+    public void testHandles() {
+        DoubleLinkedList<Integer> handleList = new DoubleLinkedList<Integer>(true);
+        DoubleLinkedList.Handle<Integer> middle = handleList.addLastHandle(2);
+        DoubleLinkedList.Handle<Integer> first = handleList.addFirstHandle(0);
+        DoubleLinkedList.Handle<Integer> last = handleList.addHandle(2, 4);
+        handleList.insertAfter(first, 1);
+        handleList.insertBefore(last, 3);
+        assertEquals("Handles should insert next to the elements they refer to", "[0, 1, 2, 3, 4]", handleList.toString());
+        assertEquals("Handle should return the element it refers to", new Integer(2), middle.get());
+
+        assertEquals("removeHandle() should return the element removed", new Integer(2), handleList.removeHandle(middle));
+        assertEquals("removeHandle() should remove only that element", "[0, 1, 3, 4]", handleList.toString());
+        assertFalse("removeHandle() should keep the hash index up to date", handleList.contains(2));
+        handleList.insertAfter(last, 5);
+        handleList.removeHandle(first);
+        assertEquals("Handles should stay valid after other changes", "[1, 3, 4, 5]", handleList.toString());
+        assertEquals("get() should see changes made through handles", new Integer(5), handleList.get(3));
+
+        try {
+            handleList.removeHandle(middle);
+            fail("removeHandle() should have thrown exception for a handle already removed");
+        } catch (IllegalStateException ise) { /*Test Passed*/ }
+
+        handleList.clear();
+        try {
+            handleList.insertBefore(last, 6);
+            fail("insertBefore() should have thrown exception for a handle invalidated by clear()");
+        } catch (IllegalStateException ise) { /*Test Passed*/ }
+        assertTrue("List should still be empty after rejecting a stale handle", handleList.isEmpty());
+
+        DoubleLinkedList<Integer> other = new DoubleLinkedList<Integer>();
+        DoubleLinkedList.Handle<Integer> foreign = other.addLastHandle(5);
+        other.addLast(6);
+        handleList.addAll(Arrays.asList(1, 2));
+        try {
+            handleList.removeHandle(foreign);
+            fail("removeHandle() should have thrown exception for another list's handle");
+        } catch (IllegalArgumentException iae) { /*Test Passed*/ }
+        try {
+            handleList.moveToFront(foreign);
+            fail("moveToFront() should have thrown exception for another list's handle");
+        } catch (IllegalArgumentException iae) { /*Test Passed*/ }
+        assertEquals("Rejecting a foreign handle should leave both lists unchanged", "[1, 2][5, 6]", handleList.toString() + other);
+        assertEquals("Rejecting a foreign handle should keep the other list's size", 2, other.size());
+
+        handleList.append(other);
+        handleList.insertAfter(foreign, 7);
+        assertEquals("Handles should follow their elements into the list they are appended to", "[1, 2, 5, 7, 6]", handleList.toString());
+        DoubleLinkedList<Integer> rest = handleList.splitAt(2);
+        rest.removeHandle(foreign);
+        assertEquals("Handles should follow their elements into a split off list", "[7, 6]", rest.toString());
+        try {
+            handleList.insertBefore(rest.firstHandle(), 0);
+            fail("insertBefore() should have thrown exception for a handle of the split off list");
+        } catch (IllegalArgumentException iae) { /*Test Passed*/ }
+    }
+
+    @Test
+    public void testBulkRemoval() {
+        Random random = new Random(113);
+        for (boolean indexed : new boolean[] {false, true}) {
+            DoubleLinkedList<Integer> bulkList = new DoubleLinkedList<Integer>(indexed);
+            List<Integer> expected = new LinkedList<Integer>();
+            for (int i = 0; i < 500; i ++) {
+                Integer value = random.nextInt(100);
+                bulkList.add(value);
+                expected.add(value);
+            }
+
+            // Small arguments are searched directly, large ones through a HashSet
+            List<Integer> small = Arrays.asList(3, 7, 11, 500);
+            List<Integer> large = new ArrayList<Integer>();
+            for (int i = 0; i < 60; i += 2) {
+                large.add(i);
+            }
+            assertEquals("containsAll() doesn't match for a small collection", expected.containsAll(small), bulkList.containsAll(small));
+            assertEquals("containsAll() doesn't match for a large collection", expected.containsAll(large), bulkList.containsAll(large));
+            assertTrue("containsAll() should be true for the list's own elements", bulkList.containsAll(expected));
+
+            assertEquals("removeAll() should report a change", expected.removeAll(small), bulkList.removeAll(small));
+            assertEquals("removeAll() doesn't match for a large collection", expected.removeAll(large), bulkList.removeAll(large));
+            assertEquals("Expected list and Actual list don't match after removeAll()", expected, bulkList);
+            assertFalse("removeAll() should report no change the second time", bulkList.removeAll(large));
+
+            large.clear();
+            for (int i = 1; i < 100; i += 4) {
+                large.add(i);
+            }
+            assertEquals("retainAll() doesn't match for a large collection", expected.retainAll(large), bulkList.retainAll(large));
+            assertEquals("Expected list and Actual list don't match after retainAll()", expected, bulkList);
+            assertEquals("contains() should agree after bulk removal", expected.contains(5), bulkList.contains(5));
+
+            ListIterator<Integer> iterator = bulkList.listIterator();
+            iterator.next();
+            Predicate<Integer> over50 = new Predicate<Integer>() {
+                @Override
+                public boolean test(Integer value) {
+                    return value > 50;
+                }
+            };
+            assertEquals("removeIf() should report a change", expected.removeIf(over50), bulkList.removeIf(over50));
+            assertEquals("Expected list and Actual list don't match after removeIf()", expected, bulkList);
+            try {
+                iterator.next();
+                fail("next() should have thrown exception after removeIf() changed the list");
+            } catch (ConcurrentModificationException cme) { /*Test Passed*/ }
+
+            bulkList.retainAll(Collections.emptyList());
+            assertTrue("retainAll() of nothing should empty the list", bulkList.isEmpty());
+        }
+    }
+
+    @Test
+    public void testSubList() {
+        for (boolean indexed : new boolean[] {false, true}) {
+            DoubleLinkedList<Integer> parent = new DoubleLinkedList<Integer>(indexed);
+            List<Integer> expected = new LinkedList<Integer>();
+            for (int i = 0; i < 20; i ++) {
+                parent.add(i);
+                expected.add(i);
+            }
+            List<Integer> view = parent.subList(5, 15);
+            List<Integer> expectedView = expected.subList(5, 15);
+            assertEquals("subList() should show the range", expectedView, view);
+
+            assertEquals("set() through the view should return the old value", expectedView.set(2, -1), view.set(2, -1));
+            view.add(0, -2);
+            expectedView.add(0, -2);
+            view.add(view.size(), -3);
+            expectedView.add(expectedView.size(), -3);
+            assertEquals("remove() through the view should return the element", expectedView.remove(4), view.remove(4));
+            ListIterator<Integer> iterator = view.listIterator(3);
+            ListIterator<Integer> expectedIterator = expectedView.listIterator(3);
+            assertEquals("View iterator next() doesn't match", expectedIterator.next(), iterator.next());
+            iterator.remove();
+            expectedIterator.remove();
+            iterator.add(-4);
+            expectedIterator.add(-4);
+            assertEquals("View iterator previous() doesn't match", expectedIterator.previous(), iterator.previous());
+            assertEquals("View iterator nextIndex() doesn't match", expectedIterator.nextIndex(), iterator.nextIndex());
+            assertEquals("View should match after changes through it", expectedView, view);
+            assertEquals("Parent should see changes made through the view", expected, parent);
+
+            List<Integer> inner = view.subList(2, 6);
+            List<Integer> expectedInner = expectedView.subList(2, 6);
+            inner.remove(1);
+            expectedInner.remove(1);
+            assertEquals("Outer view should see changes made through an inner view", expectedView, view);
+
+            inner.clear();
+            expectedInner.clear();
+            assertEquals("Outer view should shrink when an inner view is cleared", expectedView.size(), view.size());
+            view.clear();
+            expectedView.clear();
+            assertTrue("Cleared view should be empty", view.isEmpty());
+            assertEquals("clear() through the view should unlink the whole range", expected, parent);
+            assertEquals("Parent should keep working after a range is unlinked", expected.indexOf(16), parent.indexOf(16));
+            view.add(-5);
+            expectedView.add(-5);
+            assertEquals("Adding to a cleared view should insert at the range", expected, parent);
+            assertEquals("contains() should agree after changes through views", expected.contains(7), parent.contains(7));
+
+            parent.add(0, 99);
+            try {
+                view.size();
+                fail("View should have thrown exception after the parent was modified");
+            } catch (ConcurrentModificationException cme) { /*Test Passed*/ }
+        }
+
+        try {
+            new DoubleLinkedList<Integer>().subList(0, 1);
+            fail("subList() should have thrown exception for out of bounds (index > size)");
+        } catch (IndexOutOfBoundsException ioobe) { /*Test Passed*/ }
+
+        DoubleLinkedList<Integer> handleList = new DoubleLinkedList<Integer>();
+        DoubleLinkedList.Handle<Integer> handle = handleList.addLastHandle(1);
+        handleList.add(2);
+        handleList.subList(0, 1).clear();
+        try {
+            handleList.insertAfter(handle, 3);
+            fail("insertAfter() should have thrown exception for a handle removed through a view");
+        } catch (IllegalStateException ise) { /*Test Passed*/ }
+        assertEquals("Only the viewed range should be removed", "[2]", handleList.toString());
+    }
+
+    @Test
+    public void testSplice() {
+        for (boolean indexed : new boolean[] {false, true}) {
+            DoubleLinkedList<Integer> first = new DoubleLinkedList<Integer>(indexed);
+            DoubleLinkedList<Integer> second = new DoubleLinkedList<Integer>(!indexed);
+            for (int i = 0; i < 10; i ++) {
+                first.add(i);
+                second.add(10 + i);
+            }
+            DoubleLinkedList.Handle<Integer> handle = second.addHandle(5, 99);
+
+            first.append(second);
+            assertTrue("append() should leave the other list empty", second.isEmpty());
+            assertEquals("append() should move every element to the end", 21, first.size());
+            assertEquals("append() should keep the order of both lists", new Integer(99), first.get(15));
+            assertEquals("Index should see appended elements", 15, first.indexOf(99));
+            assertEquals("Handles should follow their elements", new Integer(99), first.removeHandle(handle));
+            second.add(-1);
+            assertEquals("Emptied list should still be usable", "[-1]", second.toString());
+
+            DoubleLinkedList<Integer> rest = first.splitAt(12);
+            assertEquals("splitAt() should keep the elements before the index", "[0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11]", first.toString());
+            assertEquals("splitAt() should return the elements from the index", "[12, 13, 14, 15, 16, 17, 18, 19]", rest.toString());
+            assertFalse("Split-off elements should leave the index", first.contains(12));
+            assertEquals("Split-off list should find its elements", 3, rest.indexOf(15));
+            assertTrue("splitAt(size) should return an empty list", rest.splitAt(rest.size()).isEmpty());
+
+            first.transferRange(2, 5, rest, 1);
+            assertEquals("transferRange() should remove the range", "[0, 1, 5, 6, 7, 8, 9, 10, 11]", first.toString());
+            assertEquals("transferRange() should insert the range at the index", "[12, 2, 3, 4, 13, 14, 15, 16, 17, 18, 19]", rest.toString());
+            first.transferRange(7, 9, second, 1);
+            first.transferRange(0, 1, rest, 0);
+            first.transferRange(3, 3, rest, 0);
+            assertEquals("transferRange() should move the tail of a list", "[-1, 10, 11]", second.toString());
+            assertEquals("transferRange() should move to the head of a list", "[0, 12, 2, 3, 4, 13, 14, 15, 16, 17, 18, 19]", rest.toString());
+            assertEquals("Lists should stay usable after transfers", "[1, 5, 6, 7, 8, 9]", first.toString());
+            assertEquals("Target index should see transferred elements", 4, rest.lastIndexOf(4));
+            assertEquals("Source index should forget transferred elements", -1, first.indexOf(0));
+            assertEquals("get() should agree after transfers", new Integer(9), first.get(5));
+
+            try {
+                first.append(first);
+                fail("append() should have thrown exception for appending a list to itself");
+            } catch (IllegalArgumentException iae) { /*Test Passed*/ }
+            try {
+                first.transferRange(2, 1, rest, 0);
+                fail("transferRange() should have thrown exception for a reversed range");
+            } catch (IndexOutOfBoundsException ioobe) { /*Test Passed*/ }
+        }
+    }
+
+    @Test
+    public void testDeque() {
+        DoubleLinkedList<Integer> deque = new DoubleLinkedList<Integer>();
+        LinkedList<Integer> expected = new LinkedList<Integer>();
+        Random random = new Random(113);
+        for (int i = 0; i < 3000; i ++) {
+            int operation = random.nextInt(10);
+            if (operation == 0) {
+                deque.addFirst(i);
+                expected.addFirst(i);
+            } else if (operation == 1) {
+                assertTrue("offerLast() should always accept", deque.offerLast(i));
+                expected.offerLast(i);
+            } else if (operation == 2) {
+                deque.push(i);
+                expected.push(i);
+            } else if (operation == 3) {
+                assertTrue("offer() should always accept", deque.offer(i));
+                expected.offer(i);
+            } else if (operation == 4) {
+                assertEquals("pollFirst() doesn't match", expected.pollFirst(), deque.pollFirst());
+            } else if (operation == 5) {
+                assertEquals("pollLast() doesn't match", expected.pollLast(), deque.pollLast());
+            } else if (operation == 6) {
+                assertEquals("poll() doesn't match", expected.poll(), deque.poll());
+            } else if (operation == 7) {
+                assertEquals("peekFirst() doesn't match", expected.peekFirst(), deque.peekFirst());
+                assertEquals("peekLast() doesn't match", expected.peekLast(), deque.peekLast());
+                assertEquals("peek() doesn't match", expected.peek(), deque.peek());
+            } else if (!expected.isEmpty()) {
+                if (operation == 8) {
+                    assertEquals("removeFirst() doesn't match", expected.removeFirst(), deque.removeFirst());
+                } else {
+                    assertEquals("getLast() doesn't match", expected.getLast(), deque.getLast());
+                    assertEquals("removeLast() doesn't match", expected.removeLast(), deque.removeLast());
+                }
+            }
+            assertEquals("Deque should have size of " + expected.size(), expected.size(), deque.size());
+        }
+        assertEquals("Expected deque (java.util.LinkedList) and Actual deque don't match", expected, deque);
+
+        deque.clear();
+        for (Integer value : Arrays.asList(1, 2, 3, 2, 1)) {
+            deque.add(value);
+        }
+        assertTrue("removeLastOccurrence() should find the element", deque.removeLastOccurrence(2));
+        assertTrue("removeFirstOccurrence() should find the element", deque.removeFirstOccurrence(1));
+        assertFalse("removeLastOccurrence() shouldn't find a missing element", deque.removeLastOccurrence(7));
+        assertEquals("Occurrence removals should remove the right elements", "[2, 3, 1]", deque.toString());
+        deque.addFirst(null);
+        deque.addLast(null);
+        assertEquals("indexOf() should find a null element", 0, deque.indexOf(null));
+        assertEquals("lastIndexOf() should find a null element", 4, deque.lastIndexOf(null));
+        assertTrue("removeFirstOccurrence() should find a null element", deque.removeFirstOccurrence(null));
+        assertEquals("removeFirstOccurrence() should remove the first null", "[2, 3, 1, null]", deque.toString());
+        assertTrue("removeLastOccurrence() should find a null element", deque.removeLastOccurrence(null));
+        assertFalse("remove(Object) shouldn't find a missing null element", deque.remove(null));
+        assertFalse("contains() shouldn't find a missing null element", deque.contains(null));
+        DoubleLinkedList<Integer> reversed = deque.reversed();
+        assertEquals("reversed() should list the elements from the tail", "[1, 3, 2]", reversed.toString());
+        reversed.addFirst(0);
+        assertEquals("reversed() should add to the tail of the list it views", "[2, 3, 1, 0]", deque.toString());
+        assertEquals("reversed() should remove from the tail of the list it views", new Integer(0), reversed.pollFirst());
+
+        Iterator<Integer> descending = deque.descendingIterator();
+        assertEquals("descendingIterator() should start at the tail", new Integer(1), descending.next());
+        assertEquals("descendingIterator() should move toward the head", new Integer(3), descending.next());
+        descending.remove();
+        assertEquals("descendingIterator() should continue after remove()", new Integer(2), descending.next());
+        assertFalse("descendingIterator() should end at the head", descending.hasNext());
+        assertEquals("descendingIterator() remove() should unlink the element", "[2, 1]", deque.toString());
+        assertEquals("pop() should remove the head", new Integer(2), deque.pop());
+        assertEquals("element() should return the head", new Integer(1), deque.element());
+        deque.remove();
+
+        try {
+            deque.removeFirst();
+            fail("removeFirst() should have thrown exception on an empty deque");
+        } catch (NoSuchElementException nsee) { /*Test Passed*/ }
+        try {
+            deque.getLast();
+            fail("getLast() should have thrown exception on an empty deque");
+        } catch (NoSuchElementException nsee) { /*Test Passed*/ }
+        assertNull("pollLast() should return null on an empty deque", deque.pollLast());
+    }
+
+    @Test
+    public void testSort() {
+        Comparator<Integer> byTens = new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                return Integer.compare(a / 10, b / 10);
+            }
+        };
+        Random random = new Random(113);
+        for (int n : new int[] {0, 1, 2, 3, 17, 64, 1000, 20000}) {
+            List<Integer> expected = new ArrayList<Integer>();
+            DoubleLinkedList<Integer> sequential = new DoubleLinkedList<Integer>();
+            DoubleLinkedList<Integer> parallel = new DoubleLinkedList<Integer>();
+            for (int i = 0; i < n; i ++) {
+                int value = random.nextInt(n * 10 + 1);
+                expected.add(value);
+                sequential.add(value);
+                parallel.add(value);
+            }
+            Collections.sort(expected, byTens);
+            sequential.sort(byTens);
+            parallel.parallelSort(byTens);
+            assertEquals("sort() should be stable for size " + n, expected, sequential);
+            assertEquals("parallelSort() should be stable for size " + n, expected, parallel);
+            Collections.reverse(expected);
+            List<Integer> backwards = new ArrayList<Integer>();
+            Iterator<Integer> descending = parallel.descendingIterator();
+            while (descending.hasNext()) {
+                backwards.add(descending.next());
+            }
+            assertEquals("Sorted list should be linked in both directions for size " + n, expected, backwards);
+        }
+
+        DoubleLinkedList<Integer> list = new DoubleLinkedList<Integer>();
+        list.addAll(Arrays.asList(5, 3, 9, 1));
+        DoubleLinkedList.Handle<Integer> handle = list.firstHandle();
+        list.sort(null);
+        assertEquals("sort(null) should use natural ordering", Arrays.asList(1, 3, 5, 9), list);
+        assertEquals("Handles should stay attached to their elements", new Integer(5), handle.get());
+        list.removeHandle(handle);
+        assertEquals("Handles should still be usable after sort()", Arrays.asList(1, 3, 9), list);
+
+        list.addAll(Arrays.asList(7, 2));
+        try {
+            list.sort(new Comparator<Integer>() {
+                @Override
+                public int compare(Integer a, Integer b) {
+                    if (a == 2 || b == 2) {
+                        throw new IllegalStateException();
+                    }
+                    return a.compareTo(b);
+                }
+            });
+            fail("sort() should have passed on the comparator's exception");
+        } catch (IllegalStateException ise) { /*Test Passed*/ }
+        assertEquals("A failed sort() should leave the list unchanged", Arrays.asList(1, 3, 9, 7, 2), list);
+        assertEquals("A failed sort() should keep the tail", new Integer(2), list.getLast());
+
+        Comparator<Integer> failing = new Comparator<Integer>() {
+            @Override
+            public int compare(Integer a, Integer b) {
+                if (a == 7 || b == 7) {
+                    throw new AssertionError();
+                }
+                return a.compareTo(b);
+            }
+        };
+        DoubleLinkedList<Integer> large = new DoubleLinkedList<Integer>();
+        List<Integer> expected = new ArrayList<Integer>();
+        for (int i = 0; i < 20000; i ++) {
+            large.add((i * 7919) % 20000);
+            expected.add((i * 7919) % 20000);
+        }
+        try {
+            list.sort(failing);
+            fail("sort() should have passed on the comparator's error");
+        } catch (AssertionError ae) { /*Test Passed*/ }
+        assertEquals("sort() failing with an error should leave the list unchanged", Arrays.asList(1, 3, 9, 7, 2), list);
+        try {
+            large.parallelSort(failing);
+            fail("parallelSort() should have passed on the comparator's error");
+        } catch (AssertionError ae) { /*Test Passed*/ }
+        assertEquals("parallelSort() failing with an error should leave the list unchanged", expected, large);
+        assertEquals("A failed parallelSort() should keep the tail", expected.get(19999), large.getLast());
+    }
+
+    @Test
+    public void testReversedView() {
+        DoubleLinkedList<Integer> list = new DoubleLinkedList<Integer>();
+        list.addAll(Arrays.asList(1, 2, 3, 4));
+        DoubleLinkedList<Integer> reversed = list.reversed();
+        assertSame("reversed() of a view should return the list", list, reversed.reversed());
+        assertEquals("View should list the elements from the tail", Arrays.asList(4, 3, 2, 1), reversed);
+        assertEquals("View toString(n) should truncate from both ends", "[4, ..., 1]", reversed.toString(1));
+
+        reversed.add(0);
+        reversed.add(1, 9);
+        reversed.set(0, 5);
+        assertEquals("Changes through the view should reach the list", Arrays.asList(0, 1, 2, 3, 9, 5), list);
+        list.addLast(6);
+        assertEquals("Changes to the list should be seen in the view", new Integer(6), reversed.get(0));
+        assertEquals("indexOf() should count from the head of the view", 2, reversed.indexOf(9));
+        assertEquals("remove(int) should count from the head of the view", new Integer(5), reversed.remove(1));
+        reversed.addAll(Arrays.asList(7, 8));
+        assertEquals("addAll() should append in the view's order", "[6, 9, 3, 2, 1, 0, 7, 8]", reversed.toString());
+        assertEquals("toArray() should follow the view's order", Arrays.asList(reversed.toArray()), new ArrayList<Integer>(reversed));
+
+        ListIterator<Integer> iter = reversed.listIterator(1);
+        assertEquals("View iterator should start at the index given", new Integer(9), iter.next());
+        iter.remove();
+        iter.add(10);
+        assertEquals("View iterator add() should insert before its cursor", new Integer(3), iter.next());
+        assertEquals("View iterator should report indexes of the view", 3, iter.nextIndex());
+        assertEquals("View iterator changes should reach the list", "[8, 7, 0, 1, 2, 3, 10, 6]", list.toString());
+
+        reversed.subList(0, 2).clear();
+        assertEquals("View subList() should cover the tail of the list", "[8, 7, 0, 1, 2, 3]", list.toString());
+        reversed.sort(null);
+        assertEquals("View sort() should sort the view ascending", "[0, 1, 2, 3, 7, 8]", reversed.toString());
+        DoubleLinkedList.Handle<Integer> handle = reversed.firstHandle();
+        reversed.insertAfter(handle, 4);
+        assertEquals("View handles should insert in the view's order", "[0, 4, 1, 2, 3, 7, 8]", reversed.toString());
+        try {
+            reversed.moveToFront(handle);
+            fail("moveToFront() should have thrown exception on a reversed view");
+        } catch (UnsupportedOperationException uoe) { /*Test Passed*/ }
+        try {
+            new DoubleLinkedList<Integer>().append(reversed);
+            fail("append() should have thrown exception for a reversed view");
+        } catch (IllegalArgumentException iae) { /*Test Passed*/ }
+        reversed.clear();
+        assertTrue("View clear() should empty the list", list.isEmpty());
+    }
+
+    @Test
+    public void testReversedViewIteratorAdd() {
+        DoubleLinkedList<Integer> list = new DoubleLinkedList<Integer>();
+        list.addAll(Arrays.asList(1, 2, 3));
+        ListIterator<Integer> iter = list.reversed().listIterator(1);
+        iter.add(9);
+        try {
+            iter.remove();
+            fail("remove() right after add() should have thrown exception on a reversed view");
+        } catch (IllegalStateException ise) { /*Test Passed*/ }
+        try {
+            iter.set(8);
+            fail("set() right after add() should have thrown exception on a reversed view");
+        } catch (IllegalStateException ise) { /*Test Passed*/ }
+        assertEquals("Added element should stay in the list", "[1, 2, 9, 3]", list.toString());
+        assertEquals("View iterator should continue after the added element", new Integer(2), iter.next());
+        iter.set(7);
+        assertEquals("set() after next() should replace the element returned", "[1, 7, 9, 3]", list.toString());
+    }
+
     // endregion List tests ============================================================================================
     // region ListIterator tests =======================================================================================
 
@@ -869,6 +1570,60 @@ public class DoubleLinkedListTest {
         }
     }
 
+    @Test
+    public void testIteratorConcurrentModification() {
+        buildLists(3);
+
+        // Structural change through the list
+        stringIterator = stringList.listIterator();
+        stringList.add(STRING_INSERT_VAL);
+        try {
+            stringIterator.next();
+            fail("Test failed - ConcurrentModificationException expected after the list was modified outside the iterator.");
+        }
+        catch (ConcurrentModificationException cme) { /* Test passed */ }
+
+        // Structural change through another iterator
+        intIterator = intList.listIterator(1);
+        ListIterator<Integer> otherIterator = intList.listIterator();
+        otherIterator.next();
+        otherIterator.remove();
+        try {
+            intIterator.previous();
+            fail("Test failed - ConcurrentModificationException expected after the list was modified by another iterator.");
+        }
+        catch (ConcurrentModificationException cme) { /* Test passed */ }
+
+        // Changes made through the iterator itself and non-structural changes must not fail
+        charIterator = charList.listIterator();
+        charIterator.next();
+        charIterator.remove();
+        charIterator.add(CHAR_INSERT_VAL);
+        charList.set(0, CHAR_VALUES[0]);
+        assertEquals("Test failed - Iterator must keep working after its own modifications", new Character(CHAR_VALUES[1]), charIterator.next());
+    }
+
+    @Test
+    public void testIteratorRemoveKeepsPosition() {
+        buildLists(5);
+
+        // Removing after previous() must leave the iterator before the element that followed the removed one
+        doubleIterator = doubleList.listIterator(3);
+        doubleIterator.previous();
+        doubleIterator.remove();
+        assertEquals("Test failed - nextIndex must not change when removing after previous.", 2, doubleIterator.nextIndex());
+        assertEquals("Test failed - next must return the element after the removed one.", new Double(DOUBLE_VALUES[3]), doubleIterator.next());
+
+        // Removing the only element of a list
+        stringList.clear();
+        stringList.add(STRING_VALUES[0]);
+        stringIterator = stringList.listIterator();
+        stringIterator.next();
+        stringIterator.remove();
+        assertTrue("Test failed - Removing the only element must leave an empty list.", stringList.isEmpty());
+        assertFalse("Test failed - Iterator over an empty list must not have a previous element.", stringIterator.hasPrevious());
+    }
+
     // endregion ListIterator tests ====================================================================================
     // =================================================================================================================
 
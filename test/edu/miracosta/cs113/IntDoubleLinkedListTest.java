@@ -0,0 +1,177 @@
+package edu.miracosta.cs113;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * IntDoubleLinkedListTest : Test class for the IntDoubleLinkedList implementation, checked against
+ * java.util.LinkedList.
+ */
+public class IntDoubleLinkedListTest {
+
+    /** Values to be added in linked list's setup */
+    private static final int[] INT_VALUES = {100, 200, 300, 400, 500};
+
+    /** Number of random operations used by the larger tests */
+    private static final int NUM_OPERATIONS = 5000;
+
+    private IntDoubleLinkedList intList;
+    private List<Integer> expected;
+
+    /**
+     * Creates an empty IntDoubleLinkedList and an empty java.util.LinkedList to compare it against.
+     */
+    @Before
+    public void setUp() {
+        intList = new IntDoubleLinkedList(2);
+        expected = new LinkedList<Integer>();
+    }
+
+    /**
+     * Helper method which checks every value of the list under test against the expected list.
+     */
+    private void assertSameValues() {
+        assertEquals("IntDoubleLinkedList should have size of " + expected.size(), expected.size(), intList.size());
+        int[] values = intList.toArray();
+        for (int i = 0; i < values.length; i ++) {
+            assertEquals("Expected value doesn't match toArray() at index " + i, (int) expected.get(i), values[i]);
+        }
+        assertEquals("IntDoubleLinkedList toString doesn't match", expected.toString(), intList.toString());
+    }
+
+    @Test
+    public void testAddGetIndexOf() {
+        for (int value : INT_VALUES) {
+            intList.add(value);
+            expected.add(value);
+        }
+        intList.add(2, INT_VALUES[0]);
+        expected.add(2, INT_VALUES[0]);
+        assertSameValues();
+
+        assertEquals("Expected value doesn't match get()", INT_VALUES[3], intList.get(4));
+        assertEquals("Expected index doesn't match indexOf()", 0, intList.indexOf(INT_VALUES[0]));
+        assertEquals("Expected index doesn't match lastIndexOf()", 2, intList.lastIndexOf(INT_VALUES[0]));
+        assertTrue("Expected value to be in the list", intList.contains(INT_VALUES[4]));
+        assertFalse("Expected value NOT to be in the list", intList.contains(-1));
+        assertEquals("Expected index of a missing value to be -1", -1, intList.indexOf(-1));
+    }
+
+    @Test
+    public void testRandomPositionalOperations() {
+        Random random = new Random(113);
+        for (int i = 0; i < NUM_OPERATIONS; i ++) {
+            int operation = random.nextInt(5);
+            if (operation < 2 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                intList.add(index, i);
+                expected.add(index, i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                assertEquals("Expected removed value doesn't match remove()", (int) expected.remove(index), intList.remove(index));
+            } else if (operation == 3) {
+                Integer value = expected.get(random.nextInt(expected.size()));
+                assertEquals("Expected result doesn't match removeValue()", expected.remove(value), intList.removeValue(value));
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals("Expected replaced value doesn't match set()", (int) expected.set(index, -i), intList.set(index, -i));
+            }
+        }
+        assertSameValues();
+    }
+
+    @Test
+    public void testIteratorOperations() {
+        for (int i = 0; i < 100; i ++) {
+            intList.add(i);
+            expected.add(i);
+        }
+
+        IntDoubleLinkedList.IntListIterator actualIterator = intList.listIterator();
+        ListIterator<Integer> expectedIterator = expected.listIterator();
+        while (expectedIterator.hasNext()) {
+            int value = expectedIterator.next();
+            assertEquals("Iterator nextInt() doesn't match", value, actualIterator.nextInt());
+            if (value % 3 == 0) {
+                expectedIterator.remove();
+                actualIterator.remove();
+            } else if (value % 2 == 0) {
+                expectedIterator.add(-value);
+                actualIterator.add(-value);
+            }
+            assertEquals("Iterator nextIndex() doesn't match", expectedIterator.nextIndex(), actualIterator.nextIndex());
+        }
+        while (expectedIterator.hasPrevious()) {
+            int value = expectedIterator.previous();
+            assertEquals("Iterator previousInt() doesn't match", value, actualIterator.previousInt());
+            if (value < 0) {
+                expectedIterator.remove();
+                actualIterator.remove();
+            } else if (value % 2 == 1) {
+                expectedIterator.set(value * 10);
+                actualIterator.set(value * 10);
+            }
+            assertEquals("Iterator previousIndex() doesn't match", expectedIterator.previousIndex(), actualIterator.previousIndex());
+        }
+        assertFalse("Test failed - Iterator at the beginning of the list; hasPrevious must return false", actualIterator.hasPrevious());
+        assertSameValues();
+    }
+
+    @Test
+    public void testClearAndEquals() {
+        IntDoubleLinkedList other = new IntDoubleLinkedList();
+        for (int value : INT_VALUES) {
+            intList.add(value);
+            other.add(value);
+        }
+        assertEquals("Lists with the same values should be equal", other, intList);
+        assertEquals("Lists with the same values should have the same hash code", other.hashCode(), intList.hashCode());
+        other.set(0, -1);
+        assertNotEquals("Lists with different values should not be equal", other, intList);
+
+        intList.clear();
+        assertTrue("IntDoubleLinkedList should be empty", intList.isEmpty());
+        intList.add(INT_VALUES[0]);
+        assertEquals("IntDoubleLinkedList should hold the value added after clear", INT_VALUES[0], intList.get(0));
+    }
+
+    @Test
+    public void testErrors() {
+        try {
+            intList.get(0);
+            fail("get() should have thrown exception for out of bounds (empty list, index == 0)");
+        } catch (IndexOutOfBoundsException ioobe) { /*Test Passed*/ }
+
+        try {
+            intList.add(1, INT_VALUES[0]);
+            fail("add() should have thrown exception for out of bounds (index > size)");
+        } catch (IndexOutOfBoundsException ioobe) { /*Test Passed*/ }
+
+        try {
+            intList.listIterator().nextInt();
+            fail("nextInt() should have thrown exception on an empty list");
+        } catch (NoSuchElementException nsee) { /*Test Passed*/ }
+
+        try {
+            intList.listIterator().remove();
+            fail("remove() should have thrown exception without prior call to nextInt or previousInt");
+        } catch (IllegalStateException ise) { /*Test Passed*/ }
+
+        intList.add(INT_VALUES[0]);
+        IntDoubleLinkedList.IntListIterator iterator = intList.listIterator();
+        intList.add(INT_VALUES[1]);
+        try {
+            iterator.nextInt();
+            fail("nextInt() should have thrown exception after the list was modified outside the iterator");
+        } catch (ConcurrentModificationException cme) { /*Test Passed*/ }
+    }
+}
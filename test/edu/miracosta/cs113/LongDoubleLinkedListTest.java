@@ -0,0 +1,177 @@
+package edu.miracosta.cs113;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * LongDoubleLinkedListTest : Test class for the LongDoubleLinkedList implementation, checked against
+ * java.util.LinkedList.
+ */
+public class LongDoubleLinkedListTest {
+
+    /** Values to be added in linked list's setup */
+    private static final long[] LONG_VALUES = {100L, 200L, 300L, 400L, 500L};
+
+    /** Number of random operations used by the larger tests */
+    private static final int NUM_OPERATIONS = 5000;
+
+    private LongDoubleLinkedList longList;
+    private List<Long> expected;
+
+    /**
+     * Creates an empty LongDoubleLinkedList and an empty java.util.LinkedList to compare it against.
+     */
+    @Before
+    public void setUp() {
+        longList = new LongDoubleLinkedList(2);
+        expected = new LinkedList<Long>();
+    }
+
+    /**
+     * Helper method which checks every value of the list under test against the expected list.
+     */
+    private void assertSameValues() {
+        assertEquals("LongDoubleLinkedList should have size of " + expected.size(), expected.size(), longList.size());
+        long[] values = longList.toArray();
+        for (int i = 0; i < values.length; i ++) {
+            assertEquals("Expected value doesn't match toArray() at index " + i, (long) expected.get(i), values[i]);
+        }
+        assertEquals("LongDoubleLinkedList toString doesn't match", expected.toString(), longList.toString());
+    }
+
+    @Test
+    public void testAddGetIndexOf() {
+        for (long value : LONG_VALUES) {
+            longList.add(value);
+            expected.add(value);
+        }
+        longList.add(2, LONG_VALUES[0]);
+        expected.add(2, LONG_VALUES[0]);
+        assertSameValues();
+
+        assertEquals("Expected value doesn't match get()", LONG_VALUES[3], longList.get(4));
+        assertEquals("Expected index doesn't match indexOf()", 0, longList.indexOf(LONG_VALUES[0]));
+        assertEquals("Expected index doesn't match lastIndexOf()", 2, longList.lastIndexOf(LONG_VALUES[0]));
+        assertTrue("Expected value to be in the list", longList.contains(LONG_VALUES[4]));
+        assertFalse("Expected value NOT to be in the list", longList.contains(-1));
+        assertEquals("Expected index of a missing value to be -1", -1, longList.indexOf(-1));
+    }
+
+    @Test
+    public void testRandomPositionalOperations() {
+        Random random = new Random(113);
+        for (int i = 0; i < NUM_OPERATIONS; i ++) {
+            int operation = random.nextInt(5);
+            if (operation < 2 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                longList.add(index, (long) i);
+                expected.add(index, (long) i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                assertEquals("Expected removed value doesn't match remove()", (long) expected.remove(index), longList.remove(index));
+            } else if (operation == 3) {
+                Long value = expected.get(random.nextInt(expected.size()));
+                assertEquals("Expected result doesn't match removeValue()", expected.remove(value), longList.removeValue(value));
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals("Expected replaced value doesn't match set()", (long) expected.set(index, (long) -i), longList.set(index, -i));
+            }
+        }
+        assertSameValues();
+    }
+
+    @Test
+    public void testIteratorOperations() {
+        for (int i = 0; i < 100; i ++) {
+            longList.add(i);
+            expected.add((long) i);
+        }
+
+        LongDoubleLinkedList.LongListIterator actualIterator = longList.listIterator();
+        ListIterator<Long> expectedIterator = expected.listIterator();
+        while (expectedIterator.hasNext()) {
+            long value = expectedIterator.next();
+            assertEquals("Iterator nextLong() doesn't match", value, actualIterator.nextLong());
+            if (value % 3 == 0) {
+                expectedIterator.remove();
+                actualIterator.remove();
+            } else if (value % 2 == 0) {
+                expectedIterator.add(-value);
+                actualIterator.add(-value);
+            }
+            assertEquals("Iterator nextIndex() doesn't match", expectedIterator.nextIndex(), actualIterator.nextIndex());
+        }
+        while (expectedIterator.hasPrevious()) {
+            long value = expectedIterator.previous();
+            assertEquals("Iterator previousLong() doesn't match", value, actualIterator.previousLong());
+            if (value < 0) {
+                expectedIterator.remove();
+                actualIterator.remove();
+            } else if (value % 2 == 1) {
+                expectedIterator.set(value * 10);
+                actualIterator.set(value * 10);
+            }
+            assertEquals("Iterator previousIndex() doesn't match", expectedIterator.previousIndex(), actualIterator.previousIndex());
+        }
+        assertFalse("Test failed - Iterator at the beginning of the list; hasPrevious must return false", actualIterator.hasPrevious());
+        assertSameValues();
+    }
+
+    @Test
+    public void testClearAndEquals() {
+        LongDoubleLinkedList other = new LongDoubleLinkedList();
+        for (long value : LONG_VALUES) {
+            longList.add(value);
+            other.add(value);
+        }
+        assertEquals("Lists with the same values should be equal", other, longList);
+        assertEquals("Lists with the same values should have the same hash code", other.hashCode(), longList.hashCode());
+        other.set(0, -1);
+        assertNotEquals("Lists with different values should not be equal", other, longList);
+
+        longList.clear();
+        assertTrue("LongDoubleLinkedList should be empty", longList.isEmpty());
+        longList.add(LONG_VALUES[0]);
+        assertEquals("LongDoubleLinkedList should hold the value added after clear", LONG_VALUES[0], longList.get(0));
+    }
+
+    @Test
+    public void testErrors() {
+        try {
+            longList.get(0);
+            fail("get() should have thrown exception for out of bounds (empty list, index == 0)");
+        } catch (IndexOutOfBoundsException ioobe) { /*Test Passed*/ }
+
+        try {
+            longList.add(1, LONG_VALUES[0]);
+            fail("add() should have thrown exception for out of bounds (index > size)");
+        } catch (IndexOutOfBoundsException ioobe) { /*Test Passed*/ }
+
+        try {
+            longList.listIterator().nextLong();
+            fail("nextLong() should have thrown exception on an empty list");
+        } catch (NoSuchElementException nsee) { /*Test Passed*/ }
+
+        try {
+            longList.listIterator().remove();
+            fail("remove() should have thrown exception without prior call to nextLong or previousLong");
+        } catch (IllegalStateException ise) { /*Test Passed*/ }
+
+        longList.add(LONG_VALUES[0]);
+        LongDoubleLinkedList.LongListIterator iterator = longList.listIterator();
+        longList.add(LONG_VALUES[1]);
+        try {
+            iterator.nextLong();
+            fail("nextLong() should have thrown exception after the list was modified outside the iterator");
+        } catch (ConcurrentModificationException cme) { /*Test Passed*/ }
+    }
+}
@@ -0,0 +1,136 @@
+package edu.miracosta.cs113;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * LruCacheTest : Test class for the LruCache implementation, checked against an access-ordered
+ * java.util.LinkedHashMap which removes its eldest entry when over capacity.
+ */
+public class LruCacheTest {
+
+    /** Capacity used by the cache under test */
+    private static final int CAPACITY = 16;
+
+    private LruCache<Integer, String> cache;
+    private List<Integer> evicted;
+
+    /**
+     * Creates an empty LruCache which records the keys it evicts.
+     */
+    @Before
+    public void setUp() {
+        evicted = new ArrayList<Integer>();
+        cache = new LruCache<Integer, String>(CAPACITY, null, new LruCache.EvictionListener<Integer, String>() {
+            @Override
+            public void onEviction(Integer key, String value) {
+                assertEquals("Evicted value should belong to its key", "v" + key, value.substring(0, value.indexOf('.')));
+                evicted.add(key);
+            }
+        });
+    }
+
+    @Test
+    public void testMatchesLinkedHashMap() {
+        Map<Integer, String> expected = new LinkedHashMap<Integer, String>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Integer, String> eldest) {
+                return size() > CAPACITY;
+            }
+        };
+        Random random = new Random(113);
+        int hits = 0;
+        int misses = 0;
+        for (int i = 0; i < 5000; i ++) {
+            Integer key = random.nextInt(40);
+            int operation = random.nextInt(4);
+            if (operation < 2) {
+                String value = expected.get(key);
+                if (value == null) {
+                    misses++;
+                } else {
+                    hits++;
+                }
+                assertEquals("Expected value doesn't match get()", value, cache.get(key));
+            } else if (operation == 2) {
+                String value = "v" + key + "." + i;
+                assertEquals("Expected previous value doesn't match put()", expected.put(key, value), cache.put(key, value));
+            } else {
+                assertEquals("Expected removed value doesn't match remove()", expected.remove(key), cache.remove(key));
+            }
+            assertEquals("Cache should have size of " + expected.size(), expected.size(), cache.size());
+        }
+        assertEquals("Keys should be ordered from most to least recently used", reversed(expected.keySet()), cache.keys());
+        assertEquals("Hit count doesn't match", hits, cache.hitCount());
+        assertEquals("Miss count doesn't match", misses, cache.missCount());
+        assertEquals("Every eviction should reach the listener", evicted.size(), cache.evictionCount());
+    }
+
+    @Test
+    public void testEvictsLeastRecentlyUsed() {
+        for (int i = 0; i < CAPACITY; i ++) {
+            cache.put(i, "v" + i + ".");
+        }
+        assertEquals("Hit should return the cached value", "v0.", cache.get(0));
+        assertTrue("containsKey() should find a cached key", cache.containsKey(1));
+        cache.put(CAPACITY, "v" + CAPACITY + ".");
+        assertEquals("containsKey() shouldn't count as a use, so key 1 is evicted", Arrays.asList(1), evicted);
+        assertFalse("Evicted key should no longer be cached", cache.containsKey(1));
+        assertTrue("Recently used key should still be cached", cache.containsKey(0));
+        assertEquals("Cache should stay at capacity", CAPACITY, cache.size());
+
+        cache.clear();
+        assertEquals("Cache should be empty after clear()", 0, cache.size());
+        assertNull("get() should miss after clear()", cache.get(0));
+        assertEquals("clear() shouldn't reach the eviction listener", 1, evicted.size());
+    }
+
+    @Test
+    public void testWeightCapacity() {
+        LruCache<Integer, String> weighted = new LruCache<Integer, String>(10, new LruCache.Weigher<Integer, String>() {
+            @Override
+            public int weigh(Integer key, String value) {
+                return value.length();
+            }
+        }, null);
+        weighted.put(1, "aaaa");
+        weighted.put(2, "bbbb");
+        assertEquals("Weight should be the sum of the entry weights", 8, weighted.weight());
+        weighted.put(3, "cc");
+        assertEquals("Cache at exactly its capacity shouldn't evict", 3, weighted.size());
+        weighted.put(1, "aaaaa");
+        assertEquals("Growing an entry should evict the least recently used", Arrays.asList(1, 3), weighted.keys());
+        assertEquals("Weight should drop with the evicted entry", 7, weighted.weight());
+        weighted.put(4, "dddddddddddd");
+        assertEquals("An entry heavier than the capacity should evict everything including itself", 0, weighted.size());
+        assertEquals("Weight should be zero once empty", 0, weighted.weight());
+        assertEquals("Eviction count should include every evicted entry", 4, weighted.evictionCount());
+
+        try {
+            new LruCache<Integer, String>(0);
+            fail("Constructor should have thrown exception for a capacity below 1");
+        } catch (IllegalArgumentException iae) { /*Test Passed*/ }
+    }
+
+    /**
+     * Returns the elements of a collection in reverse order
+     * @param collection    the elements to reverse
+     * @return              a new List of the elements, last first
+     */
+    private static List<Integer> reversed(Iterable<Integer> collection) {
+        List<Integer> result = new ArrayList<Integer>();
+        for (Integer value : collection) {
+            result.add(0, value);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,207 @@
+package edu.miracosta.cs113;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * OffHeapDoubleLinkedListTest : Test class for the OffHeapDoubleLinkedList implementation, checked against
+ * java.util.LinkedList using a codec which stores each Long in 8 bytes.
+ */
+public class OffHeapDoubleLinkedListTest {
+
+    /** Codec storing each Long as 8 bytes */
+    private static final OffHeapDoubleLinkedList.Codec<Long> LONG_CODEC = new OffHeapDoubleLinkedList.Codec<Long>() {
+        @Override
+        public int recordSize() {
+            return 8;
+        }
+
+        @Override
+        public void write(Long element, ByteBuffer buffer, int offset) {
+            buffer.putLong(offset, element);
+        }
+
+        @Override
+        public Long read(ByteBuffer buffer, int offset) {
+            return buffer.getLong(offset);
+        }
+    };
+
+    /** Enough elements to need more than one chunk of direct memory */
+    private static final int NUM_ELEMENTS = 100000;
+    private static final int NUM_OPERATIONS = 5000;
+
+    private OffHeapDoubleLinkedList<Long> longList;
+    private List<Long> expected;
+
+    /**
+     * Creates an empty OffHeapDoubleLinkedList and an empty java.util.LinkedList to compare it against.
+     */
+    @Before
+    public void setUp() {
+        longList = new OffHeapDoubleLinkedList<Long>(LONG_CODEC);
+        expected = new LinkedList<Long>();
+    }
+
+    /**
+     * Releases the direct memory used by the list under test.
+     */
+    @After
+    public void tearDown() {
+        longList.close();
+    }
+
+    @Test
+    public void testAddAcrossChunks() {
+        for (long i = 0; i < NUM_ELEMENTS; i ++) {
+            longList.add(i);
+        }
+        assertEquals("Off-heap list should have size of " + NUM_ELEMENTS, NUM_ELEMENTS, longList.size());
+        assertEquals("Expected value doesn't match get() at the start", new Long(0), longList.get(0));
+        assertEquals("Expected value doesn't match get() in the middle", new Long(NUM_ELEMENTS / 2), longList.get(NUM_ELEMENTS / 2));
+        assertEquals("Expected value doesn't match get() at the end", new Long(NUM_ELEMENTS - 1), longList.get(NUM_ELEMENTS - 1));
+
+        long expectedValue = 0;
+        for (Long value : longList) {
+            assertEquals("Iteration doesn't return values in order", new Long(expectedValue++), value);
+        }
+    }
+
+    @Test
+    public void testRandomPositionalOperations() {
+        Random random = new Random(113);
+        for (long i = 0; i < NUM_OPERATIONS; i ++) {
+            int operation = random.nextInt(4);
+            if (operation < 2 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                longList.add(index, i);
+                expected.add(index, i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                assertEquals("Expected removed value doesn't match remove()", expected.remove(index), longList.remove(index));
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals("Expected replaced value doesn't match set()", expected.set(index, -i), longList.set(index, -i));
+            }
+        }
+        assertEquals("Expected list (java.util.LinkedList) and Actual list (off-heap) don't match", expected, longList);
+    }
+
+    @Test
+    public void testIteratorOperations() {
+        for (long i = 0; i < 100; i ++) {
+            longList.add(i);
+            expected.add(i);
+        }
+
+        ListIterator<Long> actualIterator = longList.listIterator();
+        ListIterator<Long> expectedIterator = expected.listIterator();
+        while (expectedIterator.hasNext()) {
+            Long value = expectedIterator.next();
+            assertEquals("Iterator next() doesn't match", value, actualIterator.next());
+            if (value % 3 == 0) {
+                expectedIterator.remove();
+                actualIterator.remove();
+            } else if (value % 2 == 0) {
+                expectedIterator.add(-value);
+                actualIterator.add(-value);
+            }
+        }
+        while (expectedIterator.hasPrevious()) {
+            Long value = expectedIterator.previous();
+            assertEquals("Iterator previous() doesn't match", value, actualIterator.previous());
+            if (value < 0) {
+                expectedIterator.remove();
+                actualIterator.remove();
+            } else {
+                expectedIterator.set(value * 10);
+                actualIterator.set(value * 10);
+            }
+        }
+        assertEquals("Expected list (java.util.LinkedList) and Actual list (off-heap) don't match", expected, longList);
+    }
+
+    @Test
+    public void testClose() {
+        longList.add(1L);
+        longList.close();
+        assertTrue("Off-heap list should be empty once closed", longList.isEmpty());
+
+        try {
+            longList.add(2L);
+            fail("add() should have thrown exception on a closed list");
+        } catch (IllegalStateException ise) { /*Test Passed*/ }
+        try {
+            longList.get(0);
+            fail("get() should have thrown exception on a closed list");
+        } catch (IllegalStateException ise) { /*Test Passed*/ }
+        try {
+            longList.iterator();
+            fail("iterator() should have thrown exception on a closed list");
+        } catch (IllegalStateException ise) { /*Test Passed*/ }
+        longList.close();
+    }
+
+    @Test
+    public void testFailingCodec() {
+        // stores the low 4 bytes of each Long, but writes all 8 for values that don't fit and rejects negative values
+        OffHeapDoubleLinkedList<Long> intList = new OffHeapDoubleLinkedList<Long>(new OffHeapDoubleLinkedList.Codec<Long>() {
+            @Override
+            public int recordSize() {
+                return 4;
+            }
+
+            @Override
+            public void write(Long element, ByteBuffer buffer, int offset) {
+                if (element < 0) {
+                    throw new IllegalArgumentException("Negative record");
+                }
+                if (element > Integer.MAX_VALUE) {
+                    buffer.putLong(offset, element);
+                } else {
+                    buffer.putInt(offset, element.intValue());
+                }
+            }
+
+            @Override
+            public Long read(ByteBuffer buffer, int offset) {
+                return (long) buffer.getInt(offset);
+            }
+        });
+        try {
+            for (long i = 0; i < 4; i ++) {
+                intList.add(i);
+            }
+            try {
+                intList.add(1, Long.MAX_VALUE);
+                fail("add() should have thrown exception for a record wider than recordSize()");
+            } catch (IndexOutOfBoundsException ioobe) { /*Test Passed*/ }
+            try {
+                intList.set(2, Long.MAX_VALUE);
+                fail("set() should have thrown exception for a record wider than recordSize()");
+            } catch (IndexOutOfBoundsException ioobe) { /*Test Passed*/ }
+            for (int i = 0; i < 3; i ++) {
+                try {
+                    intList.add(2, -1L);
+                    fail("add() should have thrown exception when the codec throws");
+                } catch (IllegalArgumentException iae) { /*Test Passed*/ }
+            }
+            assertEquals("Failed writes should leave the list unchanged", "[0, 1, 2, 3]", intList.toString());
+
+            intList.add(2, 9L);
+            intList.remove(0);
+            assertEquals("List should still accept records after failed writes", "[1, 9, 2, 3]", intList.toString());
+        } finally {
+            intList.close();
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package edu.miracosta.cs113;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Predicate;
+
+import static org.junit.Assert.*;
+
+/**
+ * SegmentedDoubleLinkedListTest : Test class for the SegmentedDoubleLinkedList implementation, checked against
+ * java.util.LinkedList with a segment capacity small enough to force frequent splits, and under concurrent use.
+ */
+public class SegmentedDoubleLinkedListTest {
+
+    /** Segment capacity used by the list under test */
+    private static final int SEGMENT_CAPACITY = 4;
+
+    /** Number of threads and operations used by the larger tests */
+    private static final int NUM_THREADS = 8;
+    private static final int NUM_OPERATIONS = 5000;
+
+    private SegmentedDoubleLinkedList<Integer> intList;
+    private List<Integer> expected;
+
+    /**
+     * Creates an empty SegmentedDoubleLinkedList and an empty java.util.LinkedList to compare it against.
+     */
+    @Before
+    public void setUp() {
+        intList = new SegmentedDoubleLinkedList<Integer>(SEGMENT_CAPACITY);
+        expected = new LinkedList<Integer>();
+    }
+
+    @Test
+    public void testRandomPositionalOperations() {
+        Random random = new Random(113);
+        for (int i = 0; i < NUM_OPERATIONS; i ++) {
+            int operation = random.nextInt(5);
+            if (operation == 0) {
+                intList.add(i);
+                expected.add(i);
+            } else if (operation == 1 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                intList.add(index, i);
+                expected.add(index, i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                assertEquals("Expected removed value doesn't match remove()", expected.remove(index), intList.remove(index));
+            } else if (operation == 3) {
+                int index = random.nextInt(expected.size());
+                assertEquals("Expected replaced value doesn't match set()", expected.set(index, -i), intList.set(index, -i));
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals("Expected value doesn't match get()", expected.get(index), intList.get(index));
+            }
+        }
+        assertEquals("Segmented list should have size of " + expected.size(), expected.size(), intList.size());
+        assertEquals("Expected list (java.util.LinkedList) and Actual list (segmented) don't match", expected, intList);
+    }
+
+    @Test
+    public void testErrorsAndClear() {
+        try {
+            intList.get(0);
+            fail("get() should have thrown exception for out of bounds (empty list, index == 0)");
+        } catch (IndexOutOfBoundsException ioobe) { /*Test Passed*/ }
+
+        try {
+            intList.add(1, 1);
+            fail("add() should have thrown exception for out of bounds (index > size)");
+        } catch (IndexOutOfBoundsException ioobe) { /*Test Passed*/ }
+
+        for (int i = 0; i < 20; i ++) {
+            intList.add(i);
+        }
+        try {
+            intList.remove(20);
+            fail("remove() should have thrown exception for out of bounds (index == size)");
+        } catch (IndexOutOfBoundsException ioobe) { /*Test Passed*/ }
+
+        Iterator<Integer> iterator = intList.iterator();
+        intList.clear();
+        assertTrue("Segmented list should be empty", intList.isEmpty());
+        int count = 0;
+        while (iterator.hasNext()) {
+            assertEquals("Snapshot iterator doesn't match the list at its creation", new Integer(count++), iterator.next());
+        }
+        assertEquals("Snapshot iterator should see every element present at its creation", 20, count);
+    }
+
+    @Test
+    public void testRemovalByValue() {
+        for (int i = 0; i < 40; i ++) {
+            intList.add(i % 10);
+            expected.add(i % 10);
+        }
+        assertTrue("remove(Object) should find the element", intList.remove((Object) 3));
+        expected.remove((Object) 3);
+        assertFalse("remove(Object) shouldn't find a missing element", intList.remove((Object) 11));
+        assertEquals("remove(Object) should remove the first occurrence", expected, intList);
+
+        assertTrue("removeIf() should find matching elements", intList.removeIf(new Predicate<Integer>() {
+            @Override
+            public boolean test(Integer value) {
+                return value % 2 == 0;
+            }
+        }));
+        expected.removeIf(new Predicate<Integer>() {
+            @Override
+            public boolean test(Integer value) {
+                return value % 2 == 0;
+            }
+        });
+        assertEquals("removeIf() should remove every match", expected, intList);
+
+        assertTrue("removeAll() should find the elements", intList.removeAll(Arrays.asList(1, 9)));
+        expected.removeAll(Arrays.asList(1, 9));
+        assertEquals("removeAll() should remove every occurrence", expected, intList);
+        assertTrue("retainAll() should remove the other elements", intList.retainAll(Arrays.asList(5, 7)));
+        expected.retainAll(Arrays.asList(5, 7));
+        assertEquals("retainAll() should keep only the given elements", expected, intList);
+        assertEquals("Size should follow removals by value", expected.size(), intList.size());
+
+        intList.removeAll(Arrays.asList(5, 7));
+        assertTrue("Removing every element should empty the list", intList.isEmpty());
+        intList.add(0, 1);
+        assertEquals("List should still accept elements once emptied", new Integer(1), intList.get(0));
+    }
+
+    @Test
+    public void testSearchAndEquality() {
+        for (int i = 0; i < 30; i ++) {
+            intList.add(i % 10);
+            expected.add(i % 10);
+        }
+        intList.add(12, null);
+        expected.add(12, null);
+        assertEquals("indexOf() should find the first occurrence", expected.indexOf(7), intList.indexOf(7));
+        assertEquals("lastIndexOf() should find the last occurrence", expected.lastIndexOf(7), intList.lastIndexOf(7));
+        assertEquals("indexOf() should find a null element", 12, intList.indexOf(null));
+        assertEquals("lastIndexOf() should find a null element", 12, intList.lastIndexOf(null));
+        assertEquals("indexOf() shouldn't find a missing element", -1, intList.indexOf(11));
+        assertTrue("contains() should find an element", intList.contains(9));
+        assertFalse("contains() shouldn't find a missing element", intList.contains(11));
+        assertTrue("Segmented list should equal a list with the same elements", intList.equals(expected));
+        assertTrue("A list with the same elements should equal the segmented list", expected.equals(intList));
+        assertEquals("hashCode() should match the List contract", expected.hashCode(), intList.hashCode());
+
+        ListIterator<Integer> iterator = intList.listIterator(5);
+        assertEquals("listIterator() should start at the index given", expected.get(5), iterator.next());
+        assertEquals("listIterator() should move back", expected.get(5), iterator.previous());
+        try {
+            iterator.remove();
+            fail("Snapshot listIterator should not support remove()");
+        } catch (UnsupportedOperationException uoe) { /*Test Passed*/ }
+
+        intList.subList(3, 25).clear();
+        expected.subList(3, 25).clear();
+        assertEquals("subList().clear() should remove the range", expected, intList);
+        expected.set(0, -1);
+        assertFalse("Lists with different elements should not be equal", intList.equals(expected));
+    }
+
+    @Test
+    public void testConcurrentPositionalOperations() throws InterruptedException {
+        for (int i = 0; i < 1000; i ++) {
+            intList.add(-1 - i);
+        }
+        final ConcurrentLinkedQueue<Integer> removed = new ConcurrentLinkedQueue<Integer>();
+        final ConcurrentLinkedQueue<Integer> rejected = new ConcurrentLinkedQueue<Integer>();
+        List<Thread> threads = new ArrayList<Thread>();
+        for (int t = 0; t < NUM_THREADS; t ++) {
+            final int base = t * NUM_OPERATIONS;
+            final Random random = new Random(t);
+            Thread thread = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < NUM_OPERATIONS; i ++) {
+                        // another thread may shrink the list between size() and the call, which must then throw
+                        // and leave the list unchanged
+                        try {
+                            intList.add(random.nextInt(intList.size() + 1), base + i);
+                        } catch (IndexOutOfBoundsException ioobe) {
+                            rejected.add(base + i);
+                        }
+                        if ((i & 1) == 0) {
+                            try {
+                                removed.add(intList.remove(random.nextInt(intList.size())));
+                            } catch (IndexOutOfBoundsException ioobe) { /*Nothing removed*/ }
+                        }
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // Every element must be either removed exactly once or still in the list exactly once
+        Set<Integer> seen = new HashSet<Integer>();
+        for (Integer value : removed) {
+            assertTrue("Value " + value + " was removed more than once", seen.add(value));
+        }
+        for (Integer value : intList) {
+            assertTrue("Value " + value + " was both removed and left in the list", seen.add(value));
+        }
+        assertEquals("size() should match the number of elements in the list", intList.toArray().length, intList.size());
+        for (Integer value : rejected) {
+            assertFalse("Value " + value + " was rejected by add() but still added", seen.contains(value));
+        }
+        assertEquals("Every added value should be accounted for", 1000 + NUM_THREADS * NUM_OPERATIONS - rejected.size(),
+                seen.size());
+    }
+}
@@ -0,0 +1,167 @@
+package edu.miracosta.cs113;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * SkipDoubleLinkedListTest : Test class for the SkipDoubleLinkedList implementation, checked against
+ * java.util.LinkedList with a mix of positional and end operations large enough to build several index levels.
+ */
+public class SkipDoubleLinkedListTest {
+
+    /** Number of random operations used by the larger tests */
+    private static final int NUM_OPERATIONS = 20000;
+
+    private SkipDoubleLinkedList<Integer> intList;
+    private List<Integer> expected;
+
+    /**
+     * Creates an empty SkipDoubleLinkedList and an empty java.util.LinkedList to compare it against.
+     */
+    @Before
+    public void setUp() {
+        intList = new SkipDoubleLinkedList<Integer>();
+        expected = new LinkedList<Integer>();
+    }
+
+    @Test
+    public void testRandomPositionalOperations() {
+        Random random = new Random(113);
+        for (int i = 0; i < NUM_OPERATIONS; i ++) {
+            int operation = random.nextInt(8);
+            if (operation == 0 || expected.isEmpty()) {
+                intList.add(i);
+                expected.add(i);
+            } else if (operation == 1) {
+                intList.add(0, i);
+                expected.add(0, i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size() + 1);
+                intList.add(index, i);
+                expected.add(index, i);
+            } else if (operation == 3) {
+                int index = random.nextInt(expected.size());
+                assertEquals("Expected removed value doesn't match remove()", expected.remove(index), intList.remove(index));
+            } else if (operation == 4) {
+                assertEquals("Expected head doesn't match remove(0)", expected.remove(0), intList.remove(0));
+            } else if (operation == 5) {
+                int index = expected.size() - 1;
+                assertEquals("Expected tail doesn't match remove(size - 1)", expected.remove(index), intList.remove(index));
+            } else if (operation == 6) {
+                int index = random.nextInt(expected.size());
+                assertEquals("Expected replaced value doesn't match set()", expected.set(index, -i), intList.set(index, -i));
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals("Expected value doesn't match get()", expected.get(index), intList.get(index));
+            }
+        }
+        assertEquals("Skip list should have size of " + expected.size(), expected.size(), intList.size());
+        for (int i = 0; i < expected.size(); i ++) {
+            assertEquals("Expected value doesn't match get(" + i + ")", expected.get(i), intList.get(i));
+        }
+        assertEquals("Expected list (java.util.LinkedList) and Actual list (skip list) don't match", expected, intList);
+    }
+
+    @Test
+    public void testDrainFromEitherEnd() {
+        for (int i = 0; i < 1000; i ++) {
+            intList.add(i);
+        }
+        for (int i = 0; i < 500; i ++) {
+            assertEquals("remove(0) should return the head", new Integer(i), intList.remove(0));
+            assertEquals("remove(size - 1) should return the tail", new Integer(999 - i), intList.remove(intList.size() - 1));
+            if (!intList.isEmpty()) {
+                assertEquals("get() should still find the middle after draining", new Integer(500), intList.get(499 - i));
+            }
+        }
+        assertTrue("Skip list should be empty", intList.isEmpty());
+
+        intList.add(7);
+        intList.add(0, 6);
+        assertEquals("Skip list should be usable after being drained", "[6, 7]", intList.toString());
+    }
+
+    @Test
+    public void testListIterator() {
+        Random random = new Random(7);
+        for (int i = 0; i < 200; i ++) {
+            intList.add(i);
+            expected.add(i);
+        }
+        ListIterator<Integer> actualIterator = intList.listIterator(100);
+        ListIterator<Integer> expectedIterator = expected.listIterator(100);
+        for (int i = 0; i < 2000; i ++) {
+            int operation = random.nextInt(5);
+            if (operation == 0 && expectedIterator.hasNext()) {
+                assertEquals("Expected value doesn't match next()", expectedIterator.next(), actualIterator.next());
+            } else if (operation == 1 && expectedIterator.hasPrevious()) {
+                assertEquals("Expected value doesn't match previous()", expectedIterator.previous(), actualIterator.previous());
+            } else if (operation == 2) {
+                expectedIterator.add(-i);
+                actualIterator.add(-i);
+            } else if (operation == 3) {
+                try {
+                    expectedIterator.remove();
+                    actualIterator.remove();
+                } catch (IllegalStateException ise) {
+                    try {
+                        actualIterator.remove();
+                        fail("remove() should have thrown exception like java.util.LinkedList");
+                    } catch (IllegalStateException ise2) { /*Test Passed*/ }
+                }
+            } else if (operation == 4) {
+                try {
+                    expectedIterator.set(i);
+                    actualIterator.set(i);
+                } catch (IllegalStateException ise) { /*No last element returned*/ }
+            }
+            assertEquals("Expected nextIndex() doesn't match", expectedIterator.nextIndex(), actualIterator.nextIndex());
+        }
+        assertEquals("Expected list (java.util.LinkedList) and Actual list (skip list) don't match", expected, intList);
+    }
+
+    @Test
+    public void testErrors() {
+        try {
+            intList.get(0);
+            fail("get() should have thrown exception for out of bounds (empty list, index == 0)");
+        } catch (IndexOutOfBoundsException ioobe) { /*Test Passed*/ }
+
+        try {
+            intList.add(1, 1);
+            fail("add() should have thrown exception for out of bounds (index > size)");
+        } catch (IndexOutOfBoundsException ioobe) { /*Test Passed*/ }
+
+        try {
+            intList.iterator().next();
+            fail("next() should have thrown exception on an empty list");
+        } catch (NoSuchElementException nsee) { /*Test Passed*/ }
+
+        for (int i = 0; i < 20; i ++) {
+            intList.add(i);
+        }
+        Iterator<Integer> iterator = intList.iterator();
+        intList.add(5, 5);
+        try {
+            iterator.next();
+            fail("next() should have thrown exception after the list was modified");
+        } catch (ConcurrentModificationException cme) { /*Test Passed*/ }
+
+        intList.clear();
+        assertTrue("Skip list should be empty", intList.isEmpty());
+        try {
+            intList.remove(0);
+            fail("remove() should have thrown exception for out of bounds (cleared list, index == 0)");
+        } catch (IndexOutOfBoundsException ioobe) { /*Test Passed*/ }
+    }
+}
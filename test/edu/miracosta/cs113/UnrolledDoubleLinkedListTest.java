@@ -0,0 +1,162 @@
+package edu.miracosta.cs113;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ConcurrentModificationException;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+/**
+ * UnrolledDoubleLinkedListTest : Test class for the UnrolledDoubleLinkedList implementation, checked against
+ * java.util.LinkedList with a node capacity small enough to force frequent splits and merges.
+ */
+public class UnrolledDoubleLinkedListTest {
+
+    /** Node capacity used by the list under test */
+    private static final int NODE_CAPACITY = 4;
+
+    /** Number of elements and random operations used by the larger tests */
+    private static final int NUM_ELEMENTS = 200;
+    private static final int NUM_OPERATIONS = 5000;
+
+    private List<Integer> intList;
+    private List<Integer> expected;
+
+    /**
+     * Creates an empty UnrolledDoubleLinkedList and an empty java.util.LinkedList to compare it against.
+     */
+    @Before
+    public void setUp() {
+        intList = new UnrolledDoubleLinkedList<Integer>(NODE_CAPACITY);
+        expected = new LinkedList<Integer>();
+    }
+
+    @Test
+    public void testAddAndGet() {
+        for (int i = 0; i < NUM_ELEMENTS; i ++) {
+            intList.add(i);
+            expected.add(i);
+        }
+
+        assertEquals("Unrolled list should have size of " + NUM_ELEMENTS, NUM_ELEMENTS, intList.size());
+        for (int i = 0; i < NUM_ELEMENTS; i ++) {
+            assertEquals("Expected value doesn't match get() at index " + i, expected.get(i), intList.get(i));
+        }
+        assertEquals("Expected list (java.util.LinkedList) and Actual list (unrolled) don't match", expected, intList);
+        assertEquals("Unrolled list toString doesn't match", expected.toString(), intList.toString());
+    }
+
+    @Test
+    public void testRandomPositionalOperations() {
+        Random random = new Random(113);
+        for (int i = 0; i < NUM_OPERATIONS; i ++) {
+            int operation = random.nextInt(4);
+            if (operation < 2 || expected.isEmpty()) {
+                int index = random.nextInt(expected.size() + 1);
+                intList.add(index, i);
+                expected.add(index, i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                assertEquals("Expected removed value doesn't match remove()", expected.remove(index), intList.remove(index));
+            } else {
+                int index = random.nextInt(expected.size());
+                assertEquals("Expected replaced value doesn't match set()", expected.set(index, -i), intList.set(index, -i));
+            }
+        }
+        assertEquals("Expected list (java.util.LinkedList) and Actual list (unrolled) don't match", expected, intList);
+    }
+
+    @Test
+    public void testIteratorOperations() {
+        for (int i = 0; i < NUM_ELEMENTS; i ++) {
+            intList.add(i);
+            expected.add(i);
+        }
+
+        // Remove every third element walking forward, insert after every even element
+        ListIterator<Integer> actualIterator = intList.listIterator();
+        ListIterator<Integer> expectedIterator = expected.listIterator();
+        while (expectedIterator.hasNext()) {
+            Integer value = expectedIterator.next();
+            assertEquals("Iterator next() doesn't match", value, actualIterator.next());
+            if (value % 3 == 0) {
+                expectedIterator.remove();
+                actualIterator.remove();
+            } else if (value % 2 == 0) {
+                expectedIterator.add(-value);
+                actualIterator.add(-value);
+            }
+            assertEquals("Iterator nextIndex() doesn't match", expectedIterator.nextIndex(), actualIterator.nextIndex());
+        }
+        assertEquals("Expected list (java.util.LinkedList) and Actual list (unrolled) don't match", expected, intList);
+
+        // Walk backward, replacing odd elements and removing negative ones
+        while (expectedIterator.hasPrevious()) {
+            Integer value = expectedIterator.previous();
+            assertEquals("Iterator previous() doesn't match", value, actualIterator.previous());
+            if (value < 0) {
+                expectedIterator.remove();
+                actualIterator.remove();
+            } else if (value % 2 == 1) {
+                expectedIterator.set(value * 10);
+                actualIterator.set(value * 10);
+            }
+            assertEquals("Iterator previousIndex() doesn't match", expectedIterator.previousIndex(), actualIterator.previousIndex());
+        }
+        assertFalse("Test failed - Iterator at the beginning of the list; hasPrevious must return false", actualIterator.hasPrevious());
+        assertEquals("Expected list (java.util.LinkedList) and Actual list (unrolled) don't match", expected, intList);
+    }
+
+    @Test
+    public void testErrors() {
+        try {
+            intList.get(0);
+            fail("get() should have thrown exception for out of bounds (empty list, index == 0)");
+        } catch (IndexOutOfBoundsException ioobe) { /*Test Passed*/ }
+
+        try {
+            intList.listIterator(1);
+            fail("listIterator() should have thrown exception for out of bounds (index > size)");
+        } catch (IndexOutOfBoundsException ioobe) { /*Test Passed*/ }
+
+        try {
+            intList.listIterator().next();
+            fail("next() should have thrown exception on an empty list");
+        } catch (NoSuchElementException nsee) { /*Test Passed*/ }
+
+        try {
+            intList.listIterator().remove();
+            fail("remove() should have thrown exception without prior call to next or previous");
+        } catch (IllegalStateException ise) { /*Test Passed*/ }
+
+        try {
+            new UnrolledDoubleLinkedList<Integer>(1);
+            fail("Constructor should have thrown exception for a node capacity below 2");
+        } catch (IllegalArgumentException iae) { /*Test Passed*/ }
+
+        intList.add(1);
+        ListIterator<Integer> iterator = intList.listIterator();
+        intList.add(2);
+        try {
+            iterator.next();
+            fail("next() should have thrown exception after the list was modified outside the iterator");
+        } catch (ConcurrentModificationException cme) { /*Test Passed*/ }
+    }
+
+    @Test
+    public void testClear() {
+        for (int i = 0; i < NUM_ELEMENTS; i ++) {
+            intList.add(i);
+        }
+        intList.clear();
+        assertTrue("Unrolled list should be empty", intList.isEmpty());
+        intList.add(1);
+        assertEquals("Unrolled list should hold the element added after clear", new Integer(1), intList.get(0));
+    }
+}